@@ -0,0 +1,108 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.source;
+
+/**
+ * A {@link SpillingByteArrayOutputStream} which moves its content to a direct {@link java.nio.ByteBuffer}.
+ * The buffer is freed on {@link #reset()} and {@link #close()}.
+ */
+public class ByteBufferSpillingOutputStream extends SpillingByteArrayOutputStream {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private java.nio.ByteBuffer spilledContent;
+
+    /**
+     * Creates a new stream.
+     *
+     * @param threshold the content size in bytes above which the content is moved to a direct buffer
+     */
+    public ByteBufferSpillingOutputStream(int threshold) {
+        super(threshold);
+    }
+
+    @Override
+    protected void appendSpilled(byte[] b, int off, int len) {
+        if (spilledContent == null || spilledContent.remaining() < len) {
+            int capacity = spilledContent == null ? CHUNK_SIZE : spilledContent.capacity();
+            int required = getSpilledCount() + len;
+            while (capacity < required) {
+                capacity = capacity > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE : capacity * 2;
+            }
+            java.nio.ByteBuffer newContent = java.nio.ByteBuffer.allocateDirect(capacity);
+            if (spilledContent != null) {
+                spilledContent.flip();
+                newContent.put(spilledContent);
+                ByteBufferRandomAccessSource.clean(spilledContent);
+            }
+            spilledContent = newContent;
+        }
+        spilledContent.put(b, off, len);
+    }
+
+    @Override
+    protected void readSpilled(byte[] bytes) {
+        java.nio.ByteBuffer content = spilledContent.duplicate();
+        content.flip();
+        content.get(bytes, 0, content.remaining());
+    }
+
+    @Override
+    protected void writeSpilledTo(java.io.OutputStream out) throws java.io.IOException {
+        java.nio.ByteBuffer content = spilledContent.duplicate();
+        content.flip();
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, content.remaining())];
+        while (content.hasRemaining()) {
+            int n = Math.min(chunk.length, content.remaining());
+            content.get(chunk, 0, n);
+            out.write(chunk, 0, n);
+        }
+    }
+
+    @Override
+    protected void releaseSpilled() {
+        ByteBufferRandomAccessSource.clean(spilledContent);
+        spilledContent = null;
+    }
+}
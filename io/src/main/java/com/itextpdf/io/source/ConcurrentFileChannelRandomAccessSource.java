@@ -0,0 +1,229 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.io.LogMessageConstant;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A RandomAccessSource over a {@link FileChannel} that can be read by several threads at once without a shared lock.
+ * The channel is mapped into read-only slices which are only ever accessed with absolute offsets. If the channel
+ * cannot be mapped, positional {@link FileChannel#read(ByteBuffer, long)} calls are used instead, which do
+ * not touch the channel position either.
+ * <p>
+ * Unlike {@link ThreadSafeRandomAccessSource}, no monitor is taken on {@link #get(long)}, so views created with
+ * {@link RandomAccessFileOrArray#createView()} do not serialize on I/O.
+ * <p>
+ * Note, that with positional reads, interrupting a thread which is reading from the source closes the channel
+ * (see {@link java.nio.channels.ClosedByInterruptException}), and the source cannot be read by any thread after that.
+ * So the threads reading from the source shall not be interrupted, e.g. by {@code Future.cancel(true)}.
+ */
+class ConcurrentFileChannelRandomAccessSource implements IRandomAccessSource {
+
+    /**
+     * Size of a single mapped slice, as a power of two. Slices must stay below {@link Integer#MAX_VALUE} bytes.
+     */
+    static final int DEFAULT_SLICE_BITS = 30;
+
+    /**
+     * The channel this source is based on
+     */
+    private final FileChannel channel;
+
+    /**
+     * The length of the channel, cached at construction time
+     */
+    private final long length;
+
+    private final int sliceBits;
+
+    private final long sliceMask;
+
+    /**
+     * Read-only mapped slices of the channel, or {@code null} if positional channel reads are used
+     */
+    private final ByteBuffer[] slices;
+
+    private final ThreadLocal<ByteBuffer> singleByte = new ThreadLocal<ByteBuffer>() {
+        @Override
+        protected ByteBuffer initialValue() {
+            return ByteBuffer.allocate(1);
+        }
+    };
+
+    /**
+     * Constructs a new {@link ConcurrentFileChannelRandomAccessSource} based on the specified FileChannel.
+     * The channel is mapped into memory if possible.
+     * @param channel the channel to use as the backing store
+     * @throws java.io.IOException if the channel cannot be read
+     */
+    public ConcurrentFileChannelRandomAccessSource(FileChannel channel) throws IOException {
+        this(channel, true, DEFAULT_SLICE_BITS);
+    }
+
+    /**
+     * Constructs a new {@link ConcurrentFileChannelRandomAccessSource} based on the specified FileChannel.
+     * @param channel the channel to use as the backing store
+     * @param map whether the channel should be mapped into memory, or read with positional reads only
+     * @param sliceBits the size of a single mapped slice, as a power of two
+     * @throws java.io.IOException if the channel cannot be read
+     */
+    ConcurrentFileChannelRandomAccessSource(FileChannel channel, boolean map, int sliceBits) throws IOException {
+        if (sliceBits <= 0 || sliceBits > DEFAULT_SLICE_BITS)
+            throw new IllegalArgumentException(sliceBits + " is out of range");
+        this.channel = channel;
+        this.length = channel.size();
+        this.sliceBits = sliceBits;
+        this.sliceMask = (1L << sliceBits) - 1;
+        this.slices = map && length > 0 ? mapSlices() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int get(long position) throws IOException {
+        if (position >= length)
+            return -1;
+        if (slices != null) {
+            return slices[(int) (position >>> sliceBits)].get((int) (position & sliceMask)) & 0xff;
+        }
+        ByteBuffer buffer = singleByte.get();
+        buffer.clear();
+        if (channel.read(buffer, position) <= 0)
+            return -1;
+        return buffer.get(0) & 0xff;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int get(long position, byte[] bytes, int off, int len) throws IOException {
+        if (position >= length)
+            return -1;
+        if (len == 0)
+            return 0;
+        len = (int) Math.min(len, length - position);
+        int read = 0;
+        if (slices != null) {
+            while (read < len) {
+                // duplicate() gives this call its own position and limit over the shared mapping
+                ByteBuffer slice = slices[(int) (position >>> sliceBits)].duplicate();
+                slice.position((int) (position & sliceMask));
+                int n = Math.min(len - read, slice.remaining());
+                slice.get(bytes, off + read, n);
+                read += n;
+                position += n;
+            }
+        } else {
+            ByteBuffer target = ByteBuffer.wrap(bytes, off, len);
+            while (target.hasRemaining()) {
+                int n = channel.read(target, position + read);
+                if (n < 0)
+                    break;
+                read += n;
+            }
+        }
+        return read == 0 ? -1 : read;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Cleans the mapped byte buffers and closes the channel
+     */
+    public void close() throws IOException {
+        try {
+            if (slices != null) {
+                for (ByteBuffer slice : slices) {
+                    ByteBufferRandomAccessSource.clean(slice);
+                }
+            }
+        } finally {
+            try {
+                channel.close();
+            } catch (Exception ex) {
+                Logger logger = LoggerFactory.getLogger(ConcurrentFileChannelRandomAccessSource.class);
+                logger.error(LogMessageConstant.FILE_CHANNEL_CLOSING_FAILED, ex);
+            }
+        }
+    }
+
+    /**
+     * Returns whether this source reads from mapped memory rather than with positional channel reads.
+     * @return true if the channel is mapped
+     */
+    boolean isMapped() {
+        return slices != null;
+    }
+
+    private ByteBuffer[] mapSlices() throws IOException {
+        int count = (int) (((length - 1) >>> sliceBits) + 1);
+        ByteBuffer[] mapped = new ByteBuffer[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                long offset = (long) i << sliceBits;
+                mapped[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(length - offset, 1L << sliceBits));
+            }
+        } catch (IOException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("Map failed"))
+                throw e;
+            for (ByteBuffer slice : mapped) {
+                ByteBufferRandomAccessSource.clean(slice);
+            }
+            return null;
+        }
+        return mapped;
+    }
+}
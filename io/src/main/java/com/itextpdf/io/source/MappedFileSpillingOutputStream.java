@@ -0,0 +1,139 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.source;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link SpillingByteArrayOutputStream} which moves its content to a temporary file.
+ * The file content is read back through a memory mapping of the file.
+ * The file is deleted on {@link #reset()} and {@link #close()}.
+ */
+public class MappedFileSpillingOutputStream extends SpillingByteArrayOutputStream {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final File directory;
+    private File file;
+    private RandomAccessFile raf;
+
+    /**
+     * Creates a new stream.
+     *
+     * @param threshold the content size in bytes above which the content is moved to a temporary file
+     * @param directory the directory to create the temporary file in, or null to use the default temporary directory
+     */
+    public MappedFileSpillingOutputStream(int threshold, File directory) {
+        super(threshold);
+        this.directory = directory;
+    }
+
+    @Override
+    protected void appendSpilled(byte[] b, int off, int len) throws java.io.IOException {
+        if (raf == null) {
+            file = File.createTempFile("itext", ".tmp", directory);
+            try {
+                raf = new RandomAccessFile(file, "rw");
+            } finally {
+                if (raf == null) {
+                    file.delete();
+                    file = null;
+                }
+            }
+        }
+        FileChannel channel = raf.getChannel();
+        java.nio.ByteBuffer source = java.nio.ByteBuffer.wrap(b, off, len);
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    @Override
+    protected void readSpilled(byte[] bytes) throws java.io.IOException {
+        MappedByteBuffer content = map();
+        try {
+            content.get(bytes, 0, content.remaining());
+        } finally {
+            ByteBufferRandomAccessSource.clean(content);
+        }
+    }
+
+    @Override
+    protected void writeSpilledTo(java.io.OutputStream out) throws java.io.IOException {
+        MappedByteBuffer content = map();
+        try {
+            byte[] chunk = new byte[Math.min(CHUNK_SIZE, content.remaining())];
+            while (content.hasRemaining()) {
+                int n = Math.min(chunk.length, content.remaining());
+                content.get(chunk, 0, n);
+                out.write(chunk, 0, n);
+            }
+        } finally {
+            ByteBufferRandomAccessSource.clean(content);
+        }
+    }
+
+    @Override
+    protected void releaseSpilled() {
+        try {
+            if (raf != null) {
+                raf.close();
+            }
+        } catch (java.io.IOException ignored) {
+        } finally {
+            if (file != null) {
+                file.delete();
+            }
+            raf = null;
+            file = null;
+        }
+    }
+
+    private MappedByteBuffer map() throws java.io.IOException {
+        return raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, getSpilledCount());
+    }
+}
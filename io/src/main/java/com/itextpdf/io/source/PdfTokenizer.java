@@ -110,6 +110,11 @@ public class PdfTokenizer implements Closeable, Serializable {
     public static final byte[] True = ByteUtils.getIsoBytes("true");
     public static final byte[] False = ByteUtils.getIsoBytes("false");
 
+    private static final int MAX_PARSED_LONG_DIGITS = 18;
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+            1e13, 1e14, 1e15};
+
     protected TokenType type;
     protected int reference;
     protected int generation;
@@ -179,6 +184,26 @@ public class PdfTokenizer implements Closeable, Serializable {
         return outBuf.toByteArray();
     }
 
+    /**
+     * Gets the buffer holding the content of the current token. Unlike {@link #getByteContent()}
+     * the content is not copied, so it is valid only until the next token is read.
+     * The content occupies the first {@link #getTokenLength()} bytes of the buffer.
+     *
+     * @return the internal buffer of the tokenizer.
+     */
+    public byte[] getTokenBuffer() {
+        return outBuf.getInternalBuffer();
+    }
+
+    /**
+     * Gets the length of the content of the current token in the buffer returned by {@link #getTokenBuffer()}.
+     *
+     * @return the length of the token content.
+     */
+    public int getTokenLength() {
+        return outBuf.size();
+    }
+
     public String getStringValue() {
         return new String(outBuf.getInternalBuffer(), 0, outBuf.size());
     }
@@ -468,12 +493,119 @@ public class PdfTokenizer implements Closeable, Serializable {
         return true;
     }
 
+    /**
+     * Parses the current token as a long value. The token is parsed right from the token buffer,
+     * no intermediate {@link String} is created for the regular integer tokens.
+     *
+     * @return the long value of the token.
+     * @throws NumberFormatException if the token is not an integer number.
+     */
     public long getLongValue() {
-        return Long.parseLong(getStringValue());
+        byte[] buf = outBuf.getInternalBuffer();
+        int size = outBuf.size();
+        int start = size > 0 && (buf[0] == '-' || buf[0] == '+') ? 1 : 0;
+        if (start == size || size - start > MAX_PARSED_LONG_DIGITS) {
+            return Long.parseLong(getStringValue());
+        }
+        long value = 0;
+        for (int i = start; i < size; i++) {
+            int digit = buf[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.parseLong(getStringValue());
+            }
+            value = value * 10 + digit;
+        }
+        return buf[0] == '-' ? -value : value;
     }
 
+    /**
+     * Parses the current token as an int value, see {@link #getLongValue()}.
+     *
+     * @return the int value of the token.
+     * @throws NumberFormatException if the token is not an integer number or doesn't fit into int.
+     */
     public int getIntValue() {
-        return Integer.parseInt(getStringValue());
+        long value = getLongValue();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            return Integer.parseInt(getStringValue());
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parses the current token as a double value. The token is parsed right from the token buffer,
+     * no intermediate {@link String} is created for the numbers with up to 15 digits.
+     * The result is the same as the one of {@link Double#parseDouble(String)}.
+     *
+     * @return the double value of the token.
+     * @throws NumberFormatException if the token is not a number.
+     */
+    public double getDoubleValue() {
+        byte[] buf = outBuf.getInternalBuffer();
+        int size = outBuf.size();
+        int start = size > 0 && (buf[0] == '-' || buf[0] == '+') ? 1 : 0;
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (int i = start; i < size; i++) {
+            int ch = buf[i];
+            if (ch == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            int digit = ch - '0';
+            if (digit < 0 || digit > 9 || ++digits > MAX_EXACT_DOUBLE_DIGITS) {
+                return Double.parseDouble(getStringValue());
+            }
+            mantissa = mantissa * 10 + digit;
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+        if (digits == 0) {
+            return Double.parseDouble(getStringValue());
+        }
+        // Both operands are exactly representable, so the division is rounded in the same way as parseDouble does
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : (double) mantissa;
+        return buf[0] == '-' ? -value : value;
+    }
+
+    /**
+     * Gets the number of the digits after the decimal point of the current token, if the token is a plain decimal
+     * number which is written back the same from its {@link #getDoubleValue() value} and that number of digits:
+     * an optional minus sign, the integer part without leading zeros, an optional fraction part
+     * and up to 15 digits in total. Zero with a minus sign doesn't satisfy the conditions.
+     *
+     * @return the number of the digits after the decimal point, or -1 if the token is not a plain decimal number.
+     */
+    public int getFractionDigits() {
+        byte[] buf = outBuf.getInternalBuffer();
+        int size = outBuf.size();
+        int start = size > 0 && buf[0] == '-' ? 1 : 0;
+        if (start == size || buf[start] == '0' && start + 1 < size && buf[start + 1] != '.') {
+            return -1;
+        }
+        int digits = 0;
+        int fractionDigits = -1;
+        boolean zero = true;
+        for (int i = start; i < size; i++) {
+            int ch = buf[i];
+            if (ch == '.' && fractionDigits < 0 && digits > 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            if (ch < '0' || ch > '9' || ++digits > MAX_EXACT_DOUBLE_DIGITS) {
+                return -1;
+            }
+            zero = zero && ch == '0';
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+        if (fractionDigits == 0 || zero && start > 0) {
+            return -1;
+        }
+        return fractionDigits < 0 ? 0 : fractionDigits;
     }
 
     public boolean isHexString() {
@@ -78,6 +78,11 @@ public final class RandomAccessSourceFactory implements Serializable {
      */
     private boolean exclusivelyLockFile = false;
 
+    /**
+     * Whether files should be opened with a source that supports concurrent readers without a global lock
+     */
+    private boolean useConcurrentRead = false;
+
     /**
      * Creates a factory that will give preference to accessing the underling data source using memory mapped files
      */
@@ -109,6 +114,18 @@ public final class RandomAccessSourceFactory implements Serializable {
         return this;
     }
 
+    /**
+     * Determines whether files should be read with positional reads that are safe for concurrent readers.
+     * Views of such a source, created with {@link RandomAccessFileOrArray#createView()}, do not share a lock,
+     * so several threads can read the same file at once. Takes precedence over {@link #setUsePlainRandomAccess(boolean)}.
+     * @param useConcurrentRead true if the created file sources should support concurrent readers without a lock
+     * @return this object (this allows chaining of method calls)
+     */
+    public RandomAccessSourceFactory setUseConcurrentRead(boolean useConcurrentRead){
+        this.useConcurrentRead = useConcurrentRead;
+        return this;
+    }
+
     /**
      * Creates a {@link IRandomAccessSource} based on a byte array
      * @param data the byte array
@@ -150,6 +167,18 @@ public final class RandomAccessSourceFactory implements Serializable {
         return createSource(StreamUtil.inputStreamToArray(inputStream));
     }
 
+    /**
+     * Creates a {@link IRandomAccessSource} that reads the {@link InputStream} sequentially without reading it into memory
+     * as a whole. Only the bytes near the last read position are kept, so the source shall be read mostly forward,
+     * as {@link PdfTokenizer} does, and reading the bytes more than 64 KB behind it fails.
+     * The length of the source is not known until the end of the stream is reached.
+     * @param inputStream the stream to read from. It's closed when the source is closed.
+     * @return the newly created {@link IRandomAccessSource}
+     */
+    public IRandomAccessSource createSequentialSource(InputStream inputStream) {
+        return new SlidingWindowRandomAccessSource(inputStream, SlidingWindowRandomAccessSource.DEFAULT_HISTORY_SIZE);
+    }
+
     /**
      * Creates a {@link IRandomAccessSource} based on a filename string.
      * If the filename describes a URL, a URL based source is created
@@ -187,6 +216,18 @@ public final class RandomAccessSourceFactory implements Serializable {
             raf.getChannel().lock();
         }
 
+        if (useConcurrentRead){
+            try {
+                // ownership of the RAF passes to the channel source, closing the channel closes the RAF
+                return new ConcurrentFileChannelRandomAccessSource(raf.getChannel());
+            } catch (Exception e) {
+                try {
+                    raf.close();
+                } catch (java.io.IOException ignore){}
+                throw e;
+            }
+        }
+
         if (usePlainRandomAccess){
             return new RAFRandomAccessSource(raf);
         }
@@ -0,0 +1,160 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.io.util.MessageFormatUtil;
+
+import java.io.InputStream;
+
+/**
+ * A RandomAccessSource that reads an {@link InputStream} sequentially and keeps only a window of its content in memory.
+ * The bytes up to a fixed distance back from the last requested position stay available, which is enough for
+ * the short look-back of a tokenizer, while the stream itself may be much larger than the memory it takes.
+ * Reading a position that has already left the window results in an {@link java.io.IOException}.
+ * Note: this class is not thread safe
+ */
+class SlidingWindowRandomAccessSource implements IRandomAccessSource {
+
+    /**
+     * The default number of bytes that stay available behind the last requested position
+     */
+    static final int DEFAULT_HISTORY_SIZE = 1 << 16;
+
+    /**
+     * The source
+     */
+    private final InputStream stream;
+
+    private final int historySize;
+
+    /**
+     * The window, twice as large as the history, so that each refill reads at least the history size from the stream
+     */
+    private final byte[] buffer;
+
+    /**
+     * The position in the stream of the first byte in the window
+     */
+    private long bufferStart = 0;
+
+    private int bufferLength = 0;
+
+    private boolean endOfStream = false;
+
+    /**
+     * Creates this object
+     * @param stream the source for this RandomAccessSource
+     * @param historySize the number of bytes that stay available behind the last requested position
+     */
+    public SlidingWindowRandomAccessSource(InputStream stream, int historySize) {
+        if (historySize <= 0)
+            throw new IllegalArgumentException(historySize + " is zero or negative");
+        this.stream = stream;
+        this.historySize = historySize;
+        this.buffer = new byte[historySize * 2];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int get(long position) throws java.io.IOException {
+        if (!ensureAvailable(position))
+            return -1;
+        return buffer[(int) (position - bufferStart)] & 0xff;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int get(long position, byte[] bytes, int off, int len) throws java.io.IOException {
+        int read = 0;
+        while (read < len && ensureAvailable(position + read)) {
+            int bufferOffset = (int) (position + read - bufferStart);
+            int n = Math.min(len - read, bufferLength - bufferOffset);
+            System.arraycopy(buffer, bufferOffset, bytes, off + read, n);
+            read += n;
+        }
+        return read == 0 && len > 0 ? -1 : read;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Note: the length is not known until the end of the stream is reached, {@link Long#MAX_VALUE} is returned before that
+     */
+    public long length() {
+        return endOfStream ? bufferStart + bufferLength : Long.MAX_VALUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Closes the underlying stream
+     */
+    public void close() throws java.io.IOException {
+        stream.close();
+    }
+
+    private boolean ensureAvailable(long position) throws java.io.IOException {
+        if (position < bufferStart)
+            throw new java.io.IOException(MessageFormatUtil.format("Position {0} is out of the buffered window of the stream, which starts at {1}", position, bufferStart));
+        while (position >= bufferStart + bufferLength) {
+            if (endOfStream)
+                return false;
+            // drop everything, which is further than the history size behind the requested position
+            long keepFrom = Math.min(Math.max(bufferStart, position - historySize), bufferStart + bufferLength);
+            int drop = (int) (keepFrom - bufferStart);
+            if (drop > 0) {
+                System.arraycopy(buffer, drop, buffer, 0, bufferLength - drop);
+                bufferStart += drop;
+                bufferLength -= drop;
+            }
+            int n = stream.read(buffer, bufferLength, buffer.length - bufferLength);
+            if (n < 0) {
+                endOfStream = true;
+            } else {
+                bufferLength += n;
+            }
+        }
+        return true;
+    }
+}
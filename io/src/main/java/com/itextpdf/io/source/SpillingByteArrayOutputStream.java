@@ -0,0 +1,217 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.source;
+
+import java.io.IOException;
+
+/**
+ * A {@link ByteArrayOutputStream} which moves its content out of the java heap once its size exceeds the threshold.
+ * Bytes written after that are collected in a small heap buffer and appended to the spilled content in chunks.
+ * Subclasses define where the spilled content is stored.
+ */
+public abstract class SpillingByteArrayOutputStream extends ByteArrayOutputStream {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final int threshold;
+    private int spilledCount = 0;
+    private boolean spilled = false;
+
+    /**
+     * Creates a new stream.
+     *
+     * @param threshold the content size in bytes above which the content is moved out of the java heap
+     */
+    protected SpillingByteArrayOutputStream(int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void write(int b) {
+        if (spilled || count + 1 > threshold) {
+            ensureChunkCapacity(1);
+        }
+        super.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (!spilled && count + len <= threshold) {
+            super.write(b, off, len);
+        } else if (len >= CHUNK_SIZE) {
+            ensureChunkCapacity(CHUNK_SIZE);
+            flushChunk();
+            spill(b, off, len);
+        } else {
+            ensureChunkCapacity(len);
+            super.write(b, off, len);
+        }
+    }
+
+    @Override
+    public ByteArrayOutputStream assignBytes(byte[] bytes, int count) {
+        reset();
+        if (count <= threshold) {
+            return super.assignBytes(bytes, count);
+        }
+        write(bytes, 0, count);
+        return this;
+    }
+
+    @Override
+    public ByteArrayOutputStream assignBytes(byte[] bytes) {
+        return assignBytes(bytes, bytes.length);
+    }
+
+    @Override
+    public int size() {
+        return spilledCount + count;
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        if (!spilled) {
+            return super.toByteArray();
+        }
+        byte[] bytes = new byte[size()];
+        try {
+            if (spilledCount > 0) {
+                readSpilled(bytes);
+            }
+        } catch (IOException e) {
+            throw new com.itextpdf.io.IOException(com.itextpdf.io.IOException.IoException, e);
+        }
+        System.arraycopy(buf, 0, bytes, spilledCount, count);
+        return bytes;
+    }
+
+    @Override
+    public void writeTo(java.io.OutputStream out) throws IOException {
+        if (spilledCount > 0) {
+            writeSpilledTo(out);
+        }
+        super.writeTo(out);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        if (spilled) {
+            spilled = false;
+            spilledCount = 0;
+            releaseSpilled();
+        }
+    }
+
+    /**
+     * Releases the storage of the spilled content. The content of the stream is discarded.
+     */
+    @Override
+    public void close() throws IOException {
+        reset();
+    }
+
+    /**
+     * Appends bytes to the spilled content.
+     *
+     * @param b   the bytes to append
+     * @param off the start offset in the bytes
+     * @param len the number of bytes to append
+     */
+    protected abstract void appendSpilled(byte[] b, int off, int len) throws IOException;
+
+    /**
+     * Reads the spilled content into the beginning of the passed array.
+     *
+     * @param bytes the array to read the spilled content to, it is large enough to hold the whole spilled content
+     */
+    protected abstract void readSpilled(byte[] bytes) throws IOException;
+
+    /**
+     * Writes the spilled content to the output stream.
+     *
+     * @param out the stream to write the spilled content to
+     */
+    protected abstract void writeSpilledTo(java.io.OutputStream out) throws IOException;
+
+    /**
+     * Releases the storage of the spilled content.
+     */
+    protected abstract void releaseSpilled();
+
+    /**
+     * Gets the size of the spilled content.
+     *
+     * @return the number of spilled bytes
+     */
+    protected int getSpilledCount() {
+        return spilledCount;
+    }
+
+    private void ensureChunkCapacity(int len) {
+        if (!spilled) {
+            spilled = true;
+            flushChunk();
+            buf = new byte[CHUNK_SIZE];
+        } else if (count + len > buf.length) {
+            flushChunk();
+        }
+    }
+
+    private void flushChunk() {
+        if (count > 0) {
+            spill(buf, 0, count);
+            count = 0;
+        }
+    }
+
+    private void spill(byte[] b, int off, int len) {
+        try {
+            appendSpilled(b, off, len);
+        } catch (IOException e) {
+            throw new com.itextpdf.io.IOException(com.itextpdf.io.IOException.IoException, e);
+        }
+        spilledCount += len;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class ConcurrentFileChannelRandomAccessSourceTest extends ExtendedITextTest {
+
+    public static final String destinationFolder = "./target/test/com/itextpdf/io/source/ConcurrentFileChannelRandomAccessSourceTest/";
+
+    @BeforeClass
+    public static void beforeClass() {
+        createDestinationFolder(destinationFolder);
+    }
+
+    @Test
+    public void mappedReadTest() throws IOException {
+        byte[] content = createContent(10000);
+        String filename = writeFile("mapped.bin", content);
+        // small slices make reads cross slice boundaries
+        ConcurrentFileChannelRandomAccessSource source = new ConcurrentFileChannelRandomAccessSource(
+                new RandomAccessFile(filename, "r").getChannel(), true, 10);
+        Assert.assertTrue(source.isMapped());
+        checkContent(source, content);
+        source.close();
+    }
+
+    @Test
+    public void positionalReadTest() throws IOException {
+        byte[] content = createContent(10000);
+        String filename = writeFile("positional.bin", content);
+        ConcurrentFileChannelRandomAccessSource source = new ConcurrentFileChannelRandomAccessSource(
+                new RandomAccessFile(filename, "r").getChannel(), false, ConcurrentFileChannelRandomAccessSource.DEFAULT_SLICE_BITS);
+        Assert.assertFalse(source.isMapped());
+        checkContent(source, content);
+        source.close();
+    }
+
+    @Test
+    public void factoryConcurrentReadTest() throws IOException {
+        byte[] content = createContent(100);
+        String filename = writeFile("factory.bin", content);
+        IRandomAccessSource source = new RandomAccessSourceFactory().setUseConcurrentRead(true).createBestSource(filename);
+        Assert.assertTrue(source instanceof ConcurrentFileChannelRandomAccessSource);
+
+        RandomAccessFileOrArray file = new RandomAccessFileOrArray(source);
+        RandomAccessFileOrArray view = file.createView();
+        view.seek(10);
+        Assert.assertEquals(content[10] & 0xff, view.read());
+        Assert.assertEquals(content[0] & 0xff, file.read());
+        file.close();
+    }
+
+    @Test
+    public void concurrentReadersTest() throws Exception {
+        final byte[] content = createContent(1 << 16);
+        String filename = writeFile("concurrent.bin", content);
+        final RandomAccessFileOrArray file = new RandomAccessFileOrArray(
+                new RandomAccessSourceFactory().setUseConcurrentRead(true).createBestSource(filename));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int start = t * 997;
+                results.add(executor.submit(new Callable<Boolean>() {
+                    public Boolean call() throws IOException {
+                        RandomAccessFileOrArray view = file.createView();
+                        byte[] buffer = new byte[333];
+                        for (int pos = start; pos + buffer.length < content.length; pos += 7919) {
+                            view.seek(pos);
+                            view.readFully(buffer);
+                            for (int i = 0; i < buffer.length; i++) {
+                                if (buffer[i] != content[pos + i]) {
+                                    return false;
+                                }
+                            }
+                        }
+                        return true;
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+            file.close();
+        }
+    }
+
+    private static void checkContent(IRandomAccessSource source, byte[] content) throws IOException {
+        Assert.assertEquals(content.length, source.length());
+        for (int i = 0; i < content.length; i += 37) {
+            Assert.assertEquals(content[i] & 0xff, source.get(i));
+        }
+        Assert.assertEquals(-1, source.get(content.length));
+
+        byte[] buffer = new byte[3000];
+        Assert.assertEquals(3000, source.get(1000, buffer, 0, 3000));
+        for (int i = 0; i < buffer.length; i++) {
+            Assert.assertEquals(content[1000 + i], buffer[i]);
+        }
+        Assert.assertEquals(100, source.get(content.length - 100, buffer, 5, 500));
+        Assert.assertEquals(content[content.length - 100], buffer[5]);
+        Assert.assertEquals(-1, source.get(content.length, buffer, 0, 10));
+        // zero-length reads inside the source don't signal the end of it
+        Assert.assertEquals(0, source.get(10, buffer, 0, 0));
+    }
+
+    static byte[] createContent(int length) {
+        byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) (i * 31 + (i >> 8));
+        }
+        return content;
+    }
+
+    static String writeFile(String name, byte[] content) throws IOException {
+        String filename = destinationFolder + name;
+        FileOutputStream fos = new FileOutputStream(filename);
+        fos.write(content);
+        fos.close();
+        return filename;
+    }
+}
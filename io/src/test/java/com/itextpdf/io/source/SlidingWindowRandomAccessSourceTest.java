@@ -0,0 +1,120 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class SlidingWindowRandomAccessSourceTest {
+
+    @Test
+    public void sequentialReadTest() throws IOException {
+        byte[] content = ConcurrentFileChannelRandomAccessSourceTest.createContent(10000);
+        SlidingWindowRandomAccessSource source = new SlidingWindowRandomAccessSource(new ByteArrayInputStream(content), 100);
+        Assert.assertEquals(Long.MAX_VALUE, source.length());
+        for (int i = 0; i < content.length; i++) {
+            Assert.assertEquals(content[i] & 0xff, source.get(i));
+            if (i >= 100) {
+                // the history is still available
+                Assert.assertEquals(content[i - 100] & 0xff, source.get(i - 100));
+            }
+        }
+        Assert.assertEquals(-1, source.get(content.length));
+        Assert.assertEquals(content.length, source.length());
+        source.close();
+    }
+
+    @Test
+    public void bulkReadTest() throws IOException {
+        byte[] content = ConcurrentFileChannelRandomAccessSourceTest.createContent(10000);
+        SlidingWindowRandomAccessSource source = new SlidingWindowRandomAccessSource(new ByteArrayInputStream(content), 64);
+        byte[] buffer = new byte[1000];
+        Assert.assertEquals(1000, source.get(500, buffer, 0, 1000));
+        for (int i = 0; i < buffer.length; i++) {
+            Assert.assertEquals(content[500 + i], buffer[i]);
+        }
+        Assert.assertEquals(200, source.get(content.length - 200, buffer, 0, 1000));
+        Assert.assertEquals(content[content.length - 1], buffer[199]);
+        Assert.assertEquals(-1, source.get(content.length, buffer, 0, 1000));
+    }
+
+    @Test
+    public void readBehindWindowTest() throws IOException {
+        byte[] content = ConcurrentFileChannelRandomAccessSourceTest.createContent(10000);
+        SlidingWindowRandomAccessSource source = new SlidingWindowRandomAccessSource(new ByteArrayInputStream(content), 100);
+        source.get(5000);
+        try {
+            source.get(10);
+            Assert.fail("Exception expected");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void tokenizerTest() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.append(i).append(' ').append(i + 1).append(" re\n");
+        }
+        PdfTokenizer tokens = new PdfTokenizer(new RandomAccessFileOrArray(new RandomAccessSourceFactory()
+                .createSequentialSource(new ByteArrayInputStream(sb.toString().getBytes()))));
+        for (int i = 0; i < 20000; i++) {
+            Assert.assertTrue(tokens.nextToken());
+            Assert.assertEquals(i, tokens.getIntValue());
+            Assert.assertTrue(tokens.nextToken());
+            Assert.assertEquals(i + 1, tokens.getIntValue());
+            Assert.assertTrue(tokens.nextToken());
+            Assert.assertEquals("re", tokens.getStringValue());
+        }
+        Assert.assertFalse(tokens.nextToken());
+        tokens.close();
+    }
+}
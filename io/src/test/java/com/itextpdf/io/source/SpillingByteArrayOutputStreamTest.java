@@ -0,0 +1,120 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class SpillingByteArrayOutputStreamTest {
+
+    @Test
+    public void byteBufferSpillingTest() throws IOException {
+        checkSpilling(new ByteBufferSpillingOutputStream(100));
+    }
+
+    @Test
+    public void mappedFileSpillingTest() throws IOException {
+        checkSpilling(new MappedFileSpillingOutputStream(100, null));
+    }
+
+    @Test
+    public void assignBytesTest() throws IOException {
+        byte[] bytes = createContent(1000);
+        SpillingByteArrayOutputStream stream = new ByteBufferSpillingOutputStream(100);
+        stream.assignBytes(bytes, 50);
+        Assert.assertEquals(50, stream.size());
+        stream.assignBytes(bytes);
+        Assert.assertEquals(1000, stream.size());
+        Assert.assertArrayEquals(bytes, stream.toByteArray());
+        stream.close();
+    }
+
+    private static void checkSpilling(SpillingByteArrayOutputStream stream) throws IOException {
+        byte[] content = createContent(50000);
+        java.io.ByteArrayOutputStream expected = new java.io.ByteArrayOutputStream();
+        int pos = 0;
+        int len = 1;
+        while (pos < content.length) {
+            int n = Math.min(len, content.length - pos);
+            if (n == 1) {
+                stream.write(content[pos]);
+            } else {
+                stream.write(content, pos, n);
+            }
+            expected.write(content, pos, n);
+            pos += n;
+            // mix single bytes, small writes and writes larger than the chunk size
+            len = len > 10000 ? 1 : len * 3;
+        }
+        Assert.assertEquals(content.length, stream.size());
+        Assert.assertArrayEquals(expected.toByteArray(), stream.toByteArray());
+
+        java.io.ByteArrayOutputStream copy = new java.io.ByteArrayOutputStream();
+        stream.writeTo(copy);
+        Assert.assertArrayEquals(content, copy.toByteArray());
+
+        stream.reset();
+        Assert.assertEquals(0, stream.size());
+        stream.write(content, 0, 10);
+        Assert.assertEquals(10, stream.toByteArray().length);
+        stream.write(content, 10, 300);
+        Assert.assertArrayEquals(java.util.Arrays.copyOf(content, 310), stream.toByteArray());
+        stream.close();
+        Assert.assertEquals(0, stream.size());
+    }
+
+    private static byte[] createContent(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + i / 7);
+        }
+        return bytes;
+    }
+}
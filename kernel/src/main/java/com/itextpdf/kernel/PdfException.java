@@ -93,6 +93,7 @@ public class PdfException extends RuntimeException {
     public static final String CannotGetPdfStreamBytes = "Cannot get PdfStream bytes.";
     public static final String CannotOperateWithFlushedPdfStream = "Cannot operate with the flushed PdfStream.";
     public static final String CannotRetrieveMediaBoxAttribute = "Invalid PDF. There is no media box attribute for page or its parents.";
+    public static final String CannotExtractTextFromPage1 = "Cannot extract text from page {0}.";
     public static final String CannotFindImageDataOrEI = "Cannot find image data or EI.";
     public static final String CannotFlushDocumentRootTagBeforeDocumentIsClosed = "Cannot flush document root tag before document is closed.";
     public static final String CannotFlushObject = "Cannot flush object.";
@@ -133,6 +134,7 @@ public class PdfException extends RuntimeException {
     @Deprecated
     public static final String ColorNotFound = "Color not found.";
     public static final String ColorSpaceNotFound = "ColorSpace not found.";
+    public static final String ConcurrentReadingIsSupportedOnlyInReadingMode = "Concurrent reading is supported only for documents opened in reading mode.";
     public static final String ContentStreamMustNotInvokeOperatorsThatSpecifyColorsOrOtherColorRelatedParameters = "Content stream must not invoke operators that specify colors or other color related parameters in the graphics state.";
     public static final String DecodeParameterType1IsNotSupported = "Decode parameter type {0} is not supported.";
     public static final String DefaultcryptfilterNotFoundEncryption = "/DefaultCryptFilter not found (encryption).";
@@ -150,6 +152,7 @@ public class PdfException extends RuntimeException {
     @Deprecated
     public static final String DocumentHasNoCatalogObject = "Document has no PDF Catalog object.";
     public static final String DocumentHasNoPdfCatalogObject = "Document has no PDF Catalog object.";
+    public static final String DocumentMustBeOpenedForConcurrentReading = "Document must be opened for concurrent reading. See ReaderProperties#setConcurrentReading() method.";
     @Deprecated
     public static final String DocumentMustBePreclosed = "Document must be preClosed.";
     public static final String DocumentMustBePreClosed = "Document must be preClosed.";
@@ -58,7 +58,12 @@ import com.itextpdf.kernel.pdf.PdfNumber;
 import com.itextpdf.kernel.pdf.PdfObject;
 import com.itextpdf.kernel.pdf.PdfStream;
 
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,14 +72,54 @@ class FontUtil {
 
     private static final HashMap<String, CMapToUnicode> uniMaps = new HashMap<>();
 
+    /**
+     * Parsed ToUnicode CMaps keyed by the SHA-256 digest of the CMap stream bytes,
+     * in access order so that the least recently used entry is evicted first.
+     */
+    private static final LinkedHashMap<ByteBuffer, CMapToUnicode> toUnicodeCache = new LinkedHashMap<ByteBuffer, CMapToUnicode>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ByteBuffer, CMapToUnicode> eldest) {
+            return size() > toUnicodeCacheSize;
+        }
+    };
+
+    private static volatile int toUnicodeCacheSize = 0;
+
+    static void setToUnicodeCacheSize(int size) {
+        synchronized (toUnicodeCache) {
+            toUnicodeCacheSize = Math.max(size, 0);
+            if (toUnicodeCacheSize == 0) {
+                toUnicodeCache.clear();
+            } else {
+                while (toUnicodeCache.size() > toUnicodeCacheSize) {
+                    toUnicodeCache.remove(toUnicodeCache.keySet().iterator().next());
+                }
+            }
+        }
+    }
+
     static CMapToUnicode processToUnicode(PdfObject toUnicode) {
         CMapToUnicode cMapToUnicode = null;
         if (toUnicode instanceof PdfStream) {
             try {
                 byte[] uniBytes = ((PdfStream) toUnicode).getBytes();
+                ByteBuffer digest = toUnicodeCacheSize > 0 ? digest(uniBytes) : null;
+                if (digest != null) {
+                    synchronized (toUnicodeCache) {
+                        cMapToUnicode = toUnicodeCache.get(digest);
+                    }
+                    if (cMapToUnicode != null) {
+                        return cMapToUnicode;
+                    }
+                }
                 ICMapLocation lb = new CMapLocationFromBytes(uniBytes);
                 cMapToUnicode = new CMapToUnicode();
                 CMapParser.parseCid("", cMapToUnicode, lb);
+                if (digest != null) {
+                    synchronized (toUnicodeCache) {
+                        toUnicodeCache.put(digest, cMapToUnicode);
+                    }
+                }
             } catch (Exception e) {
                 Logger logger = LoggerFactory.getLogger(CMapToUnicode.class);
                 logger.error(LogMessageConstant.UNKNOWN_ERROR_WHILE_PROCESSING_CMAP);
@@ -108,6 +153,14 @@ class FontUtil {
         }
     }
 
+    private static ByteBuffer digest(byte[] bytes) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
     static String createRandomFontName() {
         StringBuilder s = new StringBuilder("");
         for (int k = 0; k < 7; ++k) {
@@ -504,6 +504,18 @@ public final class PdfFontFactory {
         return FontProgramFactory.isRegisteredFont(fontName);
     }
 
+    /**
+     * Sets the number of parsed ToUnicode CMaps that are shared between all the fonts created from
+     * existing font dictionaries, see {@link #createFont(PdfDictionary)}. The CMaps are looked up by the digest
+     * of their stream bytes, so documents embedding the same subsets don't parse the same CMap again.
+     * The cache is disabled by default; passing {@code 0} disables it and drops all the cached CMaps.
+     *
+     * @param size the maximal number of cached CMaps
+     */
+    public static void setToUnicodeCacheSize(int size) {
+        FontUtil.setToUnicodeCacheSize(size);
+    }
+
     /**
      * Checks if the provided dictionary is a valid font dictionary of the provided font type.
      *
@@ -43,27 +43,19 @@
  */
 package com.itextpdf.kernel.pdf;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.HashMap;
-import java.util.Map;
+import com.itextpdf.io.source.ByteArrayOutputStream;
 
-final class PdfNameLoader {
-
-    static Map<String, PdfName> loadNames() {
-        Field[] fields = PdfName.class.getDeclaredFields();
-        Map<String, PdfName> staticNames = new HashMap<>(fields.length);
-        final int flags = Modifier.STATIC | Modifier.PUBLIC | Modifier.FINAL;
-        try {
-            for (Field field : fields) {
-                if ((field.getModifiers() & flags) == flags && field.getType().equals(PdfName.class)) {
-                    PdfName name = (PdfName) field.get(null);
-                    staticNames.put(name.getValue(), name);
-                }
-            }
-        } catch (Exception e) {
-            return null;
-        }
-        return staticNames;
-    }
+/**
+ * This interface defines how the content of {@link PdfStream}s of the written document is stored until the streams are flushed.
+ * A factory is set with {@link WriterProperties#setStreamBufferFactory(IStreamBufferFactory)}.
+ */
+public interface IStreamBufferFactory {
+
+    /**
+     * Creates a buffer for the content of a stream.
+     * The buffer is closed when the stream content is released.
+     *
+     * @return a new buffer.
+     */
+    ByteArrayOutputStream createBuffer();
 }
@@ -212,7 +212,7 @@ public class PdfDocument implements IEventDispatcher, Closeable, Serializable {
     private LinkedHashMap<PdfPage, List<PdfLinkAnnotation>> linkAnnotations = new LinkedHashMap<>();
 
     /**
-     * Cache of already serialized objects from this document for smart mode.
+     * Cache of the digests of already serialized objects from this document for smart mode.
      */
     Map<PdfIndirectReference, byte[]> serializedObjectsCache = new HashMap<>();
 
@@ -917,6 +917,16 @@ public class PdfDocument implements IEventDispatcher, Closeable, Serializable {
         return closed;
     }
 
+    /**
+     * Checks whether the document is opened for concurrent reading,
+     * see {@link ReaderProperties#setConcurrentReading(boolean)}.
+     *
+     * @return true, if the document may be read by several threads at once, otherwise false.
+     */
+    public boolean isConcurrentReading() {
+        return reader != null && writer == null && reader.properties.concurrentReading;
+    }
+
     /**
      * Gets tagged status of the document.
      *
@@ -1526,6 +1536,15 @@ public class PdfDocument implements IEventDispatcher, Closeable, Serializable {
      * until it will be added to {@link com.itextpdf.kernel.pdf.canvas.PdfCanvas} or {@link PdfResources}.
      */
     public PdfFont getFont(PdfDictionary dictionary) {
+        if (isConcurrentReading()) {
+            synchronized (documentFonts) {
+                return loadFont(dictionary);
+            }
+        }
+        return loadFont(dictionary);
+    }
+
+    private PdfFont loadFont(PdfDictionary dictionary) {
         assert dictionary.getIndirectReference() != null;
         if (documentFonts.containsKey(dictionary.getIndirectReference())) {
             return documentFonts.get(dictionary.getIndirectReference());
@@ -1634,6 +1653,9 @@ public class PdfDocument implements IEventDispatcher, Closeable, Serializable {
     protected void open(PdfVersion newPdfVersion) {
         try {
             if (reader != null) {
+                if (writer != null && reader.properties.concurrentReading) {
+                    throw new PdfException(PdfException.ConcurrentReadingIsSupportedOnlyInReadingMode);
+                }
                 reader.pdfDocument = this;
                 reader.readPdf();
                 Counter counter = getCounter();
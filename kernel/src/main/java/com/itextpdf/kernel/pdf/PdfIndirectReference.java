@@ -62,8 +62,10 @@ public class PdfIndirectReference extends PdfObject implements Comparable<PdfInd
 
     /**
      * PdfObject that current PdfIndirectReference instance refers to.
+     * The field is volatile, so that an object read by one thread is safely published to the others
+     * when the document is read concurrently.
      */
-    protected PdfObject refersTo = null;
+    protected volatile PdfObject refersTo = null;
 
     /**
      * Indirect reference number of object stream containing refersTo object.
@@ -284,6 +286,9 @@ public class PdfIndirectReference extends PdfObject implements Comparable<PdfInd
      * @param state special flag of current object
      */
     protected PdfIndirectReference setState(short state) {
+        if ((state & MODIFIED) != 0 && pdfDocument != null && !checkState(MODIFIED)) {
+            pdfDocument.getXref().markModified(objNr);
+        }
         return (PdfIndirectReference) super.setState(state);
     }
 
@@ -0,0 +1,172 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Perfect hash table of the static names of {@link PdfName}, keyed on the bytes of the names.
+ * <p>
+ * The table is built with the hash and displace method: names are distributed to buckets by their hash,
+ * and for each bucket a seed is chosen, with which all the names of the bucket hash to empty slots.
+ * A lookup therefore computes two hashes and compares the bytes of at most one name, without creating any objects.
+ * </p>
+ */
+final class PdfNameTable {
+
+    private static final int NAMES_PER_BUCKET = 4;
+
+    private final int[] seeds;
+    private final PdfName[] names;
+    private final byte[][] contents;
+    private final int mask;
+
+    PdfNameTable(Collection<PdfName> staticNames) {
+        int size = 2;
+        while (size < staticNames.size() * 2) {
+            size <<= 1;
+        }
+        mask = size - 1;
+        names = new PdfName[size];
+        contents = new byte[size][];
+        seeds = new int[Math.max(1, staticNames.size() / NAMES_PER_BUCKET)];
+
+        final List<List<PdfName>> buckets = new ArrayList<>(seeds.length);
+        for (int i = 0; i < seeds.length; i++) {
+            buckets.add(new ArrayList<PdfName>());
+        }
+        for (PdfName name : staticNames) {
+            byte[] content = name.getInternalContent();
+            buckets.get(getBucket(content, content.length)).add(name);
+        }
+        List<Integer> bucketOrder = new ArrayList<>(seeds.length);
+        for (int i = 0; i < seeds.length; i++) {
+            bucketOrder.add(i);
+        }
+        // the largest buckets are placed first, while the table is still mostly empty
+        Collections.sort(bucketOrder, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                return buckets.get(o2).size() - buckets.get(o1).size();
+            }
+        });
+        for (int bucket : bucketOrder) {
+            placeBucket(bucket, buckets.get(bucket));
+        }
+    }
+
+    /**
+     * Gets the static name with the passed content.
+     *
+     * @param content buffer holding the bytes of the name, without the leading solidus.
+     * @param length  number of the name bytes at the start of the buffer.
+     * @return the static name, or {@code null} if there is no static name with such content.
+     */
+    PdfName get(byte[] content, int length) {
+        int slot = hash(content, length, seeds[getBucket(content, length)]) & mask;
+        byte[] candidate = contents[slot];
+        if (candidate == null || candidate.length != length) {
+            return null;
+        }
+        for (int i = 0; i < length; i++) {
+            if (candidate[i] != content[i]) {
+                return null;
+            }
+        }
+        return names[slot];
+    }
+
+    private void placeBucket(int bucket, List<PdfName> bucketNames) {
+        if (bucketNames.isEmpty()) {
+            return;
+        }
+        int[] slots = new int[bucketNames.size()];
+        for (int seed = 1; ; seed++) {
+            if (tryPlaceBucket(bucketNames, seed, slots)) {
+                seeds[bucket] = seed;
+                for (int i = 0; i < slots.length; i++) {
+                    names[slots[i]] = bucketNames.get(i);
+                    contents[slots[i]] = bucketNames.get(i).getInternalContent();
+                }
+                return;
+            }
+        }
+    }
+
+    private boolean tryPlaceBucket(List<PdfName> bucketNames, int seed, int[] slots) {
+        for (int i = 0; i < slots.length; i++) {
+            byte[] content = bucketNames.get(i).getInternalContent();
+            int slot = hash(content, content.length, seed) & mask;
+            if (names[slot] != null) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (slots[j] == slot) {
+                    return false;
+                }
+            }
+            slots[i] = slot;
+        }
+        return true;
+    }
+
+    private int getBucket(byte[] content, int length) {
+        return (hash(content, length, 0) & 0x7fffffff) % seeds.length;
+    }
+
+    private static int hash(byte[] content, int length, int seed) {
+        int h = 0x811c9dc5 ^ (seed * 0x9e3779b9);
+        for (int i = 0; i < length; i++) {
+            h = (h ^ (content[i] & 0xff)) * 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return h;
+    }
+}
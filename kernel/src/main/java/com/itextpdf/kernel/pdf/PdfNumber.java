@@ -48,6 +48,9 @@ import com.itextpdf.io.source.ByteUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 public class PdfNumber extends PdfPrimitiveObject {
 
     private static final long serialVersionUID = -250799718574024246L;
@@ -55,6 +58,8 @@ public class PdfNumber extends PdfPrimitiveObject {
     private double value;
     private boolean isDouble;
     private boolean changed = false;
+    // the number of the digits after the decimal point to generate the content with, -1 for the default format
+    private int fractionDigits = -1;
 
     public PdfNumber(double value) {
         super();
@@ -66,6 +71,20 @@ public class PdfNumber extends PdfPrimitiveObject {
         setValue(value);
     }
 
+    /**
+     * Creates a number, which is written with the given number of the digits after the decimal point,
+     * e.g. {@code 1.50} for value 1.5 and two fraction digits. Unlike {@link #PdfNumber(double)} it keeps
+     * the precision of the value. The bytes of the number are generated only when they are needed.
+     *
+     * @param value          the value of the number.
+     * @param fractionDigits the number of the digits after the decimal point, 0 to write the number without them.
+     */
+    public PdfNumber(double value, int fractionDigits) {
+        super();
+        setValue(value);
+        this.fractionDigits = fractionDigits;
+    }
+
     public PdfNumber(byte[] content) {
         super(content);
         this.isDouble = true;
@@ -107,6 +126,7 @@ public class PdfNumber extends PdfPrimitiveObject {
         this.value = value;
         this.isDouble = false;
         this.content = null;
+        this.fractionDigits = -1;
         this.changed = true;
     }
 
@@ -114,6 +134,7 @@ public class PdfNumber extends PdfPrimitiveObject {
         this.value = value;
         this.isDouble = true;
         this.content = null;
+        this.fractionDigits = -1;
     }
 
     public void increment() {
@@ -179,8 +200,8 @@ public class PdfNumber extends PdfPrimitiveObject {
 
     @Override
     public String toString() {
-        if (content != null) {
-            return new String(content);
+        if (hasContent()) {
+            return new String(getInternalContent());
         } else if (isDouble) {
             return new String(ByteUtils.getIsoBytes(getValue()));
         } else {
@@ -211,13 +232,20 @@ public class PdfNumber extends PdfPrimitiveObject {
         return new PdfNumber();
     }
 
+    @Override
+    protected boolean hasContent() {
+        return content != null || fractionDigits >= 0;
+    }
+
     protected boolean isDoubleNumber() {
         return isDouble;
     }
 
     @Override
     protected void generateContent() {
-        if (isDouble) {
+        if (fractionDigits >= 0) {
+            content = ByteUtils.getIsoBytes(new BigDecimal(value).setScale(fractionDigits, RoundingMode.HALF_EVEN).toPlainString());
+        } else if (isDouble) {
             content = ByteUtils.getIsoBytes(value);
         } else {
             content = ByteUtils.getIsoBytes((int) value);
@@ -239,5 +267,6 @@ public class PdfNumber extends PdfPrimitiveObject {
         PdfNumber number = (PdfNumber) from;
         value = number.value;
         isDouble = number.isDouble;
+        fractionDigits = number.fractionDigits;
     }
 }
@@ -55,6 +55,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.List;
 import com.itextpdf.io.util.MessageFormatUtil;
 
 public class PdfOutputStream extends OutputStream<PdfOutputStream> {
@@ -80,6 +81,12 @@ public class PdfOutputStream extends OutputStream<PdfOutputStream> {
      */
     protected PdfEncryption crypto;
 
+    /**
+     * Collects literals written to this stream, if not null. Is used to correct literal positions
+     * when the content of this stream is appended to another stream.
+     */
+    transient List<PdfLiteral> writtenLiterals = null;
+
     /**
      * Create a pdfOutputSteam writing to the passed OutputStream.
      *
@@ -210,6 +217,9 @@ public class PdfOutputStream extends OutputStream<PdfOutputStream> {
 
     private void write(PdfLiteral literal) {
         literal.setPosition(getCurrentPos());
+        if (writtenLiterals != null) {
+            writtenLiterals.add(literal);
+        }
         writeBytes(literal.getInternalContent());
     }
 
@@ -295,18 +305,11 @@ public class PdfOutputStream extends OutputStream<PdfOutputStream> {
                 pdfStream.updateLength(length.intValue());
                 writeBytes(PdfOutputStream.endstream);
             } else {
-                //When document is opened in stamping mode the output stream can be uninitialized.
-                //We have to initialize it and write all data from streams input to streams output.
-                if (pdfStream.getOutputStream() == null && pdfStream.getIndirectReference().getReader() != null) {
-                    // If new specific compression is set for stream,
-                    // then compressed stream should be decoded and written with new compression settings
-                    byte[] bytes = pdfStream.getIndirectReference().getReader().readStreamBytes(pdfStream, false);
-                    if (userDefinedCompression) {
-                        bytes = decodeFlateBytes(pdfStream, bytes);
-                    }
-                    pdfStream.initOutputStream(new ByteArrayOutputStream(bytes.length));
-                    pdfStream.getOutputStream().write(bytes);
+                if (pdfStream.getOutputStream() == null && !userDefinedCompression && !(toCompress && allowCompression)
+                        && writeRawStream(pdfStream)) {
+                    return;
                 }
+                initOutputStreamFromReader(pdfStream, userDefinedCompression);
                 assert pdfStream.getOutputStream() != null : "PdfStream lost OutputStream";
                 ByteArrayOutputStream byteArrayStream;
                 try {
@@ -357,6 +360,84 @@ public class PdfOutputStream extends OutputStream<PdfOutputStream> {
         }
     }
 
+    /**
+     * Prepares the stream to be written with its content compressed apart from the writing.
+     * If the stream content shall be compressed with Flate filter, the filter is added to the stream dictionary
+     * and the uncompressed content is returned. Otherwise the stream is left unchanged
+     * and shall be written with {@link #write(PdfObject)}.
+     *
+     * @param pdfStream the stream to be written.
+     * @return the stream content to be compressed, or null if the stream shall be written as usual.
+     */
+    byte[] prepareDeferredCompression(PdfStream pdfStream) throws IOException {
+        if (pdfStream.getInputStream() != null) {
+            return null;
+        }
+        boolean userDefinedCompression = pdfStream.getCompressionLevel() != CompressionConstants.UNDEFINED_COMPRESSION;
+        int compressionLevel = pdfStream.getCompressionLevel();
+        if (!userDefinedCompression) {
+            compressionLevel = document != null ?
+                    document.getWriter().getCompressionLevel() :
+                    CompressionConstants.DEFAULT_COMPRESSION;
+        }
+        boolean toCompress = compressionLevel != CompressionConstants.NO_COMPRESSION;
+        boolean allowCompression = !pdfStream.containsKey(PdfName.Filter) && isNotMetadataPdfStream(pdfStream);
+        if (!toCompress || !(allowCompression || userDefinedCompression)) {
+            return null;
+        }
+        initOutputStreamFromReader(pdfStream, userDefinedCompression);
+        if (containsFlateFilter(pdfStream)) {
+            return null;
+        }
+        pdfStream.setCompressionLevel(compressionLevel);
+        updateCompressionFilter(pdfStream);
+        if (pdfStream instanceof PdfObjectStream) {
+            PdfObjectStream objectStream = (PdfObjectStream) pdfStream;
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            ((ByteArrayOutputStream) objectStream.getIndexStream().getOutputStream()).writeTo(content);
+            ((ByteArrayOutputStream) objectStream.getOutputStream().getOutputStream()).writeTo(content);
+            return content.toByteArray();
+        } else {
+            return ((ByteArrayOutputStream) pdfStream.getOutputStream().getOutputStream()).toByteArray();
+        }
+    }
+
+    /**
+     * Writes the dictionary of the stream, prepared with {@link #prepareDeferredCompression(PdfStream)},
+     * followed by the stream keyword. The value of the Length key is left empty, its position is marked
+     * by the returned literal.
+     *
+     * @param pdfStream the stream to be written.
+     * @return the literal which position marks the place of the stream length.
+     */
+    PdfLiteral writeDeferredStreamHeader(PdfStream pdfStream) {
+        PdfLiteral length = new PdfLiteral(new byte[0]);
+        pdfStream.put(PdfName.Length, length);
+        write((PdfDictionary) pdfStream);
+        writeBytes(PdfOutputStream.stream);
+        return length;
+    }
+
+    /**
+     * Writes the stream which header was written with {@link #writeDeferredStreamHeader(PdfStream)}
+     * to another stream. The stream length is inserted into the header.
+     *
+     * @param header         the stream header.
+     * @param lengthPosition the position of the stream length in the header.
+     * @param content        the compressed stream content.
+     * @return the number of bytes inserted into the header.
+     */
+    int writeDeferredStream(byte[] header, int lengthPosition, byte[] content) {
+        writeBytes(header, 0, lengthPosition);
+        long lengthStart = getCurrentPos();
+        writeInteger(content.length);
+        int lengthSize = (int) (getCurrentPos() - lengthStart);
+        writeBytes(header, lengthPosition, header.length - lengthPosition);
+        writeBytes(content);
+        writeBytes(PdfOutputStream.endstream);
+        return lengthSize;
+    }
+
     protected boolean checkEncryption(PdfStream pdfStream) {
         if (crypto == null || crypto.isEmbeddedFilesOnly()) {
             return false;
@@ -425,6 +506,57 @@ public class PdfOutputStream extends OutputStream<PdfOutputStream> {
         }
     }
 
+    /**
+     * Writes the stream, which content was not read from the document, copying its bytes from the reader as they are.
+     * The stream content is not read into memory as a whole.
+     *
+     * @param pdfStream the stream to be written.
+     * @return true if the stream was written, false if it can't be copied as it is.
+     */
+    private boolean writeRawStream(PdfStream pdfStream) throws IOException {
+        PdfReader reader = pdfStream.getIndirectReference().getReader();
+        // stream bytes are copied encrypted, so the same encryption shall be used on reading and writing
+        if (reader == null || reader.decrypt != crypto) {
+            return false;
+        }
+        int length = reader.getStreamRawLength(pdfStream);
+        if (length < 0) {
+            return false;
+        }
+        pdfStream.put(PdfName.Length, new PdfNumber(length));
+        pdfStream.updateLength(length);
+        this.write((PdfDictionary) pdfStream);
+        writeBytes(PdfOutputStream.stream);
+        reader.copyStreamBytesRaw(pdfStream, this);
+        writeBytes(PdfOutputStream.endstream);
+        return true;
+    }
+
+    /**
+     * Replaces the buffer this stream writes to. The bytes written so far are moved to the new buffer.
+     *
+     * @param buffer the new buffer.
+     */
+    void replaceBuffer(ByteArrayOutputStream buffer) throws IOException {
+        ((ByteArrayOutputStream) outputStream).writeTo(buffer);
+        outputStream = buffer;
+    }
+
+    private void initOutputStreamFromReader(PdfStream pdfStream, boolean userDefinedCompression) throws IOException {
+        //When document is opened in stamping mode the output stream can be uninitialized.
+        //We have to initialize it and write all data from streams input to streams output.
+        if (pdfStream.getOutputStream() == null && pdfStream.getIndirectReference().getReader() != null) {
+            // If new specific compression is set for stream,
+            // then compressed stream should be decoded and written with new compression settings
+            byte[] bytes = pdfStream.getIndirectReference().getReader().readStreamBytes(pdfStream, false);
+            if (userDefinedCompression) {
+                bytes = decodeFlateBytes(pdfStream, bytes);
+            }
+            pdfStream.initOutputStream(null);
+            pdfStream.getOutputStream().assignBytes(bytes, bytes.length);
+        }
+    }
+
     protected byte[] decodeFlateBytes(PdfStream stream, byte[] bytes) {
         PdfObject filterObject = stream.get(PdfName.Filter);
         if (filterObject == null) {
@@ -61,11 +61,15 @@ import com.itextpdf.kernel.xmp.options.SerializeOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import com.itextpdf.io.util.MessageFormatUtil;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.List;
 
 public class PdfPage extends PdfObjectWrapper<PdfDictionary> {
@@ -681,6 +685,41 @@ public class PdfPage extends PdfObjectWrapper<PdfDictionary> {
         }
     }
 
+    /**
+     * Gets the whole page content as a stream, which decodes the content streams of the page as it is read,
+     * instead of concatenating their decoded bytes in memory, see {@link #getContentBytes()}.
+     * This allows to process pages with very large content streams with bounded memory.
+     * The content streams are separated by a new line.
+     *
+     * @return the decoded content, which shall be closed by the caller.
+     * @throws PdfException in case of any {@link IOException}.
+     */
+    public InputStream getContentInputStream() {
+        final int streamCount = getContentStreamCount();
+        // the streams are opened one by one, each followed by a separator, as the previous one is read to the end
+        return new SequenceInputStream(new Enumeration<InputStream>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < 2 * streamCount;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                int index = next++;
+                if (index % 2 == 1) {
+                    return new ByteArrayInputStream(new byte[] {'\n'});
+                }
+                try {
+                    return getContentStream(index / 2).openDecodedStream();
+                } catch (IOException ioe) {
+                    throw new PdfException(PdfException.CannotGetContentBytes, ioe, PdfPage.this);
+                }
+            }
+        });
+    }
+
     /**
      * Gets decoded bytes of a certain stream of a page content.
      *
@@ -104,20 +104,12 @@ class PdfPagesTree implements Serializable {
      * @return the {@see PdfPage} at the specified position in this list
      */
     public PdfPage getPage(int pageNum) {
-        if (pageNum < 1 || pageNum > getNumberOfPages()) {
-            throw new IndexOutOfBoundsException(MessageFormatUtil.format(PdfException.RequestedPageNumberIsOutOfBounds, pageNum));
-        }
-        --pageNum;
-        PdfPage pdfPage = pages.get(pageNum);
-        if (pdfPage == null) {
-            loadPage(pageNum);
-            pdfPage = new PdfPage(pageRefs.get(pageNum));
-            int parentIndex = findPageParent(pageNum);
-            PdfPages parentPages = parents.get(parentIndex);
-            pdfPage.parentPages = parentPages;
-            pages.set(pageNum, pdfPage);
+        if (document.isConcurrentReading()) {
+            synchronized (this) {
+                return loadPdfPage(pageNum);
+            }
         }
-        return pdfPage;
+        return loadPdfPage(pageNum);
     }
 
     /**
@@ -157,6 +149,32 @@ class PdfPagesTree implements Serializable {
      * specified by it's PdfDictionary, or 0 if this tree does not contain the page.
      */
     public int getPageNumber(PdfDictionary pageDictionary) {
+        if (document.isConcurrentReading()) {
+            synchronized (this) {
+                return findPageNumber(pageDictionary);
+            }
+        }
+        return findPageNumber(pageDictionary);
+    }
+
+    private PdfPage loadPdfPage(int pageNum) {
+        if (pageNum < 1 || pageNum > getNumberOfPages()) {
+            throw new IndexOutOfBoundsException(MessageFormatUtil.format(PdfException.RequestedPageNumberIsOutOfBounds, pageNum));
+        }
+        --pageNum;
+        PdfPage pdfPage = pages.get(pageNum);
+        if (pdfPage == null) {
+            loadPage(pageNum);
+            pdfPage = new PdfPage(pageRefs.get(pageNum));
+            int parentIndex = findPageParent(pageNum);
+            PdfPages parentPages = parents.get(parentIndex);
+            pdfPage.parentPages = parentPages;
+            pages.set(pageNum, pdfPage);
+        }
+        return pdfPage;
+    }
+
+    private int findPageNumber(PdfDictionary pageDictionary) {
         int pageNum = pageRefs.indexOf(pageDictionary);
         if (pageNum >= 0) {
             return pageNum + 1;
@@ -48,6 +48,7 @@ import com.itextpdf.io.source.ByteBuffer;
 import com.itextpdf.io.source.ByteUtils;
 import com.itextpdf.io.source.IRandomAccessSource;
 import com.itextpdf.io.source.PdfTokenizer;
+import com.itextpdf.io.source.RASInputStream;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
 import com.itextpdf.io.source.RandomAccessSourceFactory;
 import com.itextpdf.io.source.WindowRandomAccessSource;
@@ -60,7 +61,16 @@ import org.slf4j.LoggerFactory;
 import java.io.*;
 import java.io.IOException;
 import com.itextpdf.io.util.MessageFormatUtil;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Reads a PDF document.
@@ -106,6 +116,12 @@ public class PdfReader implements Closeable, Serializable {
     protected boolean fixedXref = false;
     protected boolean xrefStm = false;
 
+    /**
+     * Indicates that the reader is a helper used to parse an object stream in a worker thread,
+     * so that the access to the shared cross-reference table shall be synchronized.
+     */
+    private boolean concurrentParsing = false;
+
     /**
      * Constructs a new PdfReader.
      *
@@ -117,6 +133,23 @@ public class PdfReader implements Closeable, Serializable {
         this.tokens = getOffsetTokeniser(byteSource);
     }
 
+    /**
+     * Creates a helper reader which parses the decoded content of an object stream
+     * on behalf of the passed reader in a worker thread.
+     *
+     * @param reader the reader of the document the object stream belongs to.
+     * @param tokens tokenizer over the decoded object stream bytes.
+     */
+    private PdfReader(PdfReader reader, PdfTokenizer tokens) {
+        this.properties = reader.properties;
+        this.pdfDocument = reader.pdfDocument;
+        this.decrypt = reader.decrypt;
+        this.encrypted = reader.encrypted;
+        this.fixedXref = reader.fixedXref;
+        this.tokens = tokens;
+        this.concurrentParsing = true;
+    }
+
     /**
      * Reads and parses a PDF document.
      *
@@ -162,6 +195,7 @@ public class PdfReader implements Closeable, Serializable {
         this(
                 new RandomAccessSourceFactory()
                         .setForceRead(false)
+                        .setUseConcurrentRead(properties.concurrentReading)
                         .createBestSource(filename),
                 properties
         );
@@ -288,9 +322,7 @@ public class PdfReader implements Closeable, Serializable {
      * @throws IOException on error.
      */
     public byte[] readStreamBytesRaw(PdfStream stream) throws IOException {
-        PdfName type = stream.getAsName(PdfName.Type);
-        if (!PdfName.XRefStm.equals(type) && !PdfName.ObjStm.equals(type))
-            checkPdfStreamLength(stream);
+        checkStreamLength(stream);
         long offset = stream.getOffset();
         if (offset <= 0)
             return null;
@@ -321,8 +353,11 @@ public class PdfReader implements Closeable, Serializable {
                     filter.release();
                 }
                 if (!skip) {
-                    decrypt.setHashKeyForNextObject(stream.getIndirectReference().getObjNumber(), stream.getIndirectReference().getGenNumber());
-                    bytes = decrypt.decryptByteArray(bytes);
+                    // decryptor keeps the key of the current object, so it can't be shared between threads
+                    synchronized (decrypt) {
+                        decrypt.setHashKeyForNextObject(stream.getIndirectReference().getObjNumber(), stream.getIndirectReference().getGenNumber());
+                        bytes = decrypt.decryptByteArray(bytes);
+                    }
                 }
             }
         } finally {
@@ -334,6 +369,50 @@ public class PdfReader implements Closeable, Serializable {
         return bytes;
     }
 
+    /**
+     * Gets the length of the stream bytes as they are stored in the document.
+     * The stream length is checked the same way as in {@link #readStreamBytesRaw(PdfStream)}.
+     *
+     * @return the length of the stream bytes, or -1 if the stream can't be read from the document.
+     * @throws IOException on error.
+     */
+    int getStreamRawLength(PdfStream stream) throws IOException {
+        PdfName type = stream.getAsName(PdfName.Type);
+        if (!PdfName.XRefStm.equals(type) && !PdfName.ObjStm.equals(type))
+            checkPdfStreamLength(stream);
+        if (stream.getOffset() <= 0)
+            return -1;
+        return Math.max(stream.getLength(), 0);
+    }
+
+    /**
+     * Copies stream bytes, as they are stored in the document, to the output stream.
+     * Unlike {@link #readStreamBytesRaw(PdfStream)}, the bytes are neither decrypted
+     * nor read into memory as a whole. The stream length shall be checked with
+     * {@link #getStreamRawLength(PdfStream)} first.
+     *
+     * @throws IOException on error.
+     */
+    void copyStreamBytesRaw(PdfStream stream, java.io.OutputStream os) throws IOException {
+        int length = stream.getLength();
+        RandomAccessFileOrArray file = tokens.getSafeFile();
+        try {
+            file.seek(stream.getOffset());
+            byte[] buffer = new byte[Math.min(length, 8192)];
+            while (length > 0) {
+                int n = Math.min(length, buffer.length);
+                file.readFully(buffer, 0, n);
+                os.write(buffer, 0, n);
+                length -= n;
+            }
+        } finally {
+            try {
+                file.close();
+            } catch (Exception ignored) {
+            }
+        }
+    }
+
     /**
      * Reads, decrypt and optionally decode stream bytes into {@link ByteArrayInputStream}.
      * User is responsible for closing returned stream.
@@ -347,6 +426,36 @@ public class PdfReader implements Closeable, Serializable {
         return bytes != null ? new ByteArrayInputStream(bytes) : null;
     }
 
+    /**
+     * Opens the decoded content of the stream for sequential reading.
+     * Unlike {@link #readStream(PdfStream, boolean)}, the stream bytes are neither read nor decoded as a whole,
+     * when the stream is not encrypted and either has no filters, or has a single FlateDecode filter without predictor.
+     * In this case the bytes are read from the document and inflated as the returned stream is read,
+     * so that large streams are processed with bounded memory. Other streams are decoded in memory.
+     * User is responsible for closing returned stream.
+     *
+     * @param stream the stream to read.
+     * @return InputStream or {@code null} if reading was failed.
+     * @throws IOException on error.
+     */
+    public InputStream readDecodedStream(PdfStream stream) throws IOException {
+        PdfObject filter = stream.get(PdfName.Filter);
+        if (filter != null && filter.getType() == PdfObject.ARRAY && ((PdfArray) filter).size() == 1) {
+            filter = ((PdfArray) filter).get(0);
+        }
+        boolean inflate = PdfName.FlateDecode.equals(filter) || PdfName.Fl.equals(filter);
+        if ((filter != null && !inflate) || hasPredictor(stream)
+                || (decrypt != null && !decrypt.isEmbeddedFilesOnly())) {
+            return readStream(stream, true);
+        }
+        checkStreamLength(stream);
+        if (stream.getOffset() <= 0)
+            return null;
+        InputStream bytes = new RASInputStream(new WindowRandomAccessSource(tokens.getSafeFile().createSourceView(),
+                stream.getOffset(), Math.max(stream.getLength(), 0)));
+        return inflate ? new LenientInflaterInputStream(bytes) : bytes;
+    }
+
     /**
      * Decode bytes applying the filters specified in the provided dictionary using default filter handlers.
      *
@@ -528,6 +637,9 @@ public class PdfReader implements Closeable, Serializable {
         } catch (IllegalArgumentException exc) {
             throw new PdfException(PdfException.PdfVersionNotValid, version);
         }
+        if (properties.lazyXrefReading) {
+            pdfDocument.getXref().enableLazyEntries(pdfDocument);
+        }
         try {
             readXref();
         } catch (RuntimeException ex) {
@@ -537,63 +649,214 @@ public class PdfReader implements Closeable, Serializable {
             rebuildXref();
         }
         readDecryptObj();
+        if (properties.objectStreamsPreloadExecutor != null) {
+            preloadObjectStreams(properties.objectStreamsPreloadExecutor);
+        }
     }
 
     protected void readObjectStream(PdfStream objectStream) throws IOException {
-        int objectStreamNumber = objectStream.getIndirectReference().getObjNumber();
         int first = objectStream.getAsNumber(PdfName.First).intValue();
         int n = objectStream.getAsNumber(PdfName.N).intValue();
         byte[] bytes = readStreamBytes(objectStream, true);
         PdfTokenizer saveTokens = tokens;
         try {
             tokens = new PdfTokenizer(new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(bytes)));
-            int[] address = new int[n];
             int[] objNumber = new int[n];
-            boolean ok = true;
-            for (int k = 0; k < n; ++k) {
-                ok = tokens.nextToken();
-                if (!ok)
-                    break;
-                if (tokens.getTokenType() != PdfTokenizer.TokenType.Number) {
-                    ok = false;
-                    break;
+            PdfObject[] objects = readObjectStreamContent(first, objNumber);
+            setObjectStreamContent(objectStream, objNumber, objects);
+        } finally {
+            tokens = saveTokens;
+        }
+    }
+
+    /**
+     * Reads and parses all the object streams of the document in parallel using the passed executor.
+     * Reading, decryption and decoding of the streams as well as parsing of the contained objects is done
+     * in the worker threads, while the parsed objects are assigned to their indirect references
+     * in the current thread, after all the tasks are completed.
+     * <p>
+     * Object streams whose filters or decode parameters are indirect objects are left for the regular
+     * on-demand reading, as well as the streams failed to be read in a worker thread.
+     * </p>
+     *
+     * @param executor executor to run the reading tasks on.
+     * @throws IOException on error.
+     */
+    protected void preloadObjectStreams(ExecutorService executor) throws IOException {
+        PdfXrefTable xref = pdfDocument.getXref();
+        Set<Integer> objectStreamNumbers = new LinkedHashSet<>();
+        for (int i = 1; i < xref.size(); i++) {
+            PdfIndirectReference reference = xref.get(i);
+            if (reference != null && !reference.isFree() && reference.getObjStreamNumber() > 0) {
+                objectStreamNumbers.add(reference.getObjStreamNumber());
+            }
+        }
+        if (objectStreamNumbers.isEmpty()) {
+            return;
+        }
+
+        // make the source thread safe before the worker threads start to create their own views of it
+        tokens.getSafeFile().close();
+
+        final List<PdfStream> objectStreams = new ArrayList<>(objectStreamNumbers.size());
+        List<Future<PdfObject[]>> results = new ArrayList<>(objectStreamNumbers.size());
+        final List<int[]> objNumbers = new ArrayList<>(objectStreamNumbers.size());
+        for (int objectStreamNumber : objectStreamNumbers) {
+            PdfIndirectReference reference = xref.get(objectStreamNumber);
+            if (reference == null || reference.checkState(PdfObject.ORIGINAL_OBJECT_STREAM)) {
+                continue;
+            }
+            PdfObject object = reference.getRefersTo(false);
+            if (object == null || object.getType() != PdfObject.STREAM || !isObjectStreamConcurrentlyReadable((PdfStream) object)) {
+                continue;
+            }
+            final PdfStream objectStream = (PdfStream) object;
+            final int first = objectStream.getAsNumber(PdfName.First).intValue();
+            final int[] objNumber = new int[objectStream.getAsNumber(PdfName.N).intValue()];
+            objectStreams.add(objectStream);
+            objNumbers.add(objNumber);
+            results.add(executor.submit(new Callable<PdfObject[]>() {
+                @Override
+                public PdfObject[] call() throws IOException {
+                    byte[] bytes = readStreamBytes(objectStream, true);
+                    PdfTokenizer streamTokens = new PdfTokenizer(new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(bytes)));
+                    return new PdfReader(PdfReader.this, streamTokens).readObjectStreamContent(first, objNumber);
                 }
-                objNumber[k] = tokens.getIntValue();
-                ok = tokens.nextToken();
-                if (!ok)
-                    break;
-                if (tokens.getTokenType() != PdfTokenizer.TokenType.Number) {
-                    ok = false;
-                    break;
+            }));
+        }
+
+        // wait for all the tasks before touching the cross-reference table, workers may still add references to it
+        PdfObject[][] objects = new PdfObject[results.size()][];
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                objects[i] = results.get(i).get();
+            } catch (ExecutionException e) {
+                // the object stream will be read once again on demand, so that the error will be reported as usual
+            } catch (InterruptedException e) {
+                // don't interrupt running tasks: an interrupted positional read closes the file channel shared by the document
+                for (int j = i; j < results.size(); j++) {
+                    results.get(j).cancel(false);
                 }
-                address[k] = tokens.getIntValue() + first;
+                Thread.currentThread().interrupt();
+                throw new PdfException(PdfException.CannotReadPdfObject, e);
+            }
+        }
+        for (int i = 0; i < objects.length; i++) {
+            if (objects[i] != null) {
+                setObjectStreamContent(objectStreams.get(i), objNumbers.get(i), objects[i]);
+            }
+        }
+    }
+
+    /**
+     * Parses the objects of a decoded object stream with the current tokenizer.
+     *
+     * @param first     offset of the first object in the decoded stream.
+     * @param objNumber array to be filled with the numbers of the parsed objects.
+     * @return parsed objects in the order they are stored in the object stream.
+     * @throws IOException on error.
+     */
+    private PdfObject[] readObjectStreamContent(int first, int[] objNumber) throws IOException {
+        int n = objNumber.length;
+        int[] address = new int[n];
+        boolean ok = true;
+        for (int k = 0; k < n; ++k) {
+            ok = tokens.nextToken();
+            if (!ok)
+                break;
+            if (tokens.getTokenType() != PdfTokenizer.TokenType.Number) {
+                ok = false;
+                break;
             }
+            objNumber[k] = tokens.getIntValue();
+            ok = tokens.nextToken();
             if (!ok)
-                throw new PdfException(PdfException.ErrorWhileReadingObjectStream);
-            for (int k = 0; k < n; ++k) {
+                break;
+            if (tokens.getTokenType() != PdfTokenizer.TokenType.Number) {
+                ok = false;
+                break;
+            }
+            address[k] = tokens.getIntValue() + first;
+        }
+        if (!ok)
+            throw new PdfException(PdfException.ErrorWhileReadingObjectStream);
+        PdfObject[] objects = new PdfObject[n];
+        for (int k = 0; k < n; ++k) {
+            tokens.seek(address[k]);
+            tokens.nextToken();
+            if (tokens.getTokenType() == PdfTokenizer.TokenType.Number) {
+                objects[k] = new PdfNumber(tokens.getByteContent());
+            } else {
                 tokens.seek(address[k]);
-                tokens.nextToken();
-                PdfObject obj;
-                if (tokens.getTokenType() == PdfTokenizer.TokenType.Number) {
-                    obj = new PdfNumber(tokens.getByteContent());
-                } else {
-                    tokens.seek(address[k]);
-                    obj = readObject(false, true);
+                objects[k] = readObject(false, true);
+            }
+        }
+        return objects;
+    }
+
+    private void setObjectStreamContent(PdfStream objectStream, int[] objNumber, PdfObject[] objects) {
+        int objectStreamNumber = objectStream.getIndirectReference().getObjNumber();
+        for (int k = 0; k < objects.length; ++k) {
+            PdfIndirectReference reference = pdfDocument.getXref().get(objNumber[k]);
+            // Check if this object has no incremental updates (e.g. no append mode)
+            if (reference.getObjStreamNumber() == objectStreamNumber) {
+                reference.setRefersTo(objects[k]);
+                objects[k].setIndirectReference(reference);
+            }
+        }
+        objectStream.getIndirectReference().setState(PdfObject.ORIGINAL_OBJECT_STREAM);
+    }
+
+    /**
+     * Checks that reading and decoding of the object stream doesn't require reading of any other object,
+     * i.e. that the filters and decode parameters are direct objects.
+     */
+    private static boolean isObjectStreamConcurrentlyReadable(PdfStream objectStream) {
+        // stream length check of the other streams uses the shared tokenizer
+        if (!PdfName.ObjStm.equals(objectStream.getAsName(PdfName.Type))) {
+            return false;
+        }
+        if (objectStream.getAsNumber(PdfName.First) == null || objectStream.getAsNumber(PdfName.N) == null) {
+            return false;
+        }
+        return isDirectObject(objectStream.get(PdfName.Filter, false))
+                && isDirectObject(objectStream.get(PdfName.DecodeParms, false))
+                && isDirectObject(objectStream.get(PdfName.DP, false));
+    }
+
+    private static boolean isDirectObject(PdfObject object) {
+        if (object == null) {
+            return true;
+        }
+        if (object.isIndirectReference() || object.getIndirectReference() != null) {
+            return false;
+        }
+        if (object.isArray()) {
+            for (PdfObject item : ((PdfArray) object).list) {
+                if (!isDirectObject(item)) {
+                    return false;
                 }
-                PdfIndirectReference reference = pdfDocument.getXref().get(objNumber[k]);
-                // Check if this object has no incremental updates (e.g. no append mode)
-                if (reference.getObjStreamNumber() == objectStreamNumber) {
-                    reference.setRefersTo(obj);
-                    obj.setIndirectReference(reference);
+            }
+        } else if (object.isDictionary()) {
+            for (PdfObject item : ((PdfDictionary) object).values(false)) {
+                if (!isDirectObject(item)) {
+                    return false;
                 }
             }
-            objectStream.getIndirectReference().setState(PdfObject.ORIGINAL_OBJECT_STREAM);
-        } finally {
-            tokens = saveTokens;
         }
+        return true;
     }
 
     protected PdfObject readObject(PdfIndirectReference reference) {
+        if (properties.concurrentReading) {
+            // the shared tokenizer and the cross-reference table are guarded by the table itself,
+            // the object is assigned before leaving the lock, so that it's read only once
+            synchronized (pdfDocument.getXref()) {
+                PdfObject object = readObject(reference, true);
+                reference.setRefersTo(object);
+                return object;
+            }
+        }
         return readObject(reference, true);
     }
 
@@ -644,27 +907,12 @@ public class PdfReader implements Closeable, Serializable {
             case Name:
                 return readPdfName(readAsDirect);
             case Ref:
-                int num = tokens.getObjNr();
-                PdfXrefTable table = pdfDocument.getXref();
-                PdfIndirectReference reference = table.get(num);
-                if (reference != null) {
-                    if (reference.isFree()) {
-                        return PdfNull.PDF_NULL;
+                if (concurrentParsing) {
+                    synchronized (pdfDocument.getXref()) {
+                        return readReference();
                     }
-                    if (reference.getGenNumber() != tokens.getGenNr()) {
-                        if (fixedXref) {
-                            Logger logger = LoggerFactory.getLogger(PdfReader.class);
-                            logger.warn(MessageFormatUtil.format(LogMessageConstant.INVALID_INDIRECT_REFERENCE, tokens.getObjNr(), tokens.getGenNr()));
-                            return new PdfNull();
-                        } else {
-                            throw new PdfException(PdfException.InvalidIndirectReference1);
-                        }
-                    }
-                } else {
-                    reference = table.add(new PdfIndirectReference(pdfDocument,
-                            num, tokens.getGenNr(), 0).setState(PdfObject.READING));
                 }
-                return reference;
+                return readReference();
             case EndOfFile:
                 throw new PdfException(PdfException.UnexpectedEndOfFile);
             default:
@@ -691,9 +939,33 @@ public class PdfReader implements Closeable, Serializable {
         }
     }
 
+    private PdfObject readReference() {
+        int num = tokens.getObjNr();
+        PdfXrefTable table = pdfDocument.getXref();
+        PdfIndirectReference reference = table.get(num);
+        if (reference != null) {
+            if (reference.isFree()) {
+                return PdfNull.PDF_NULL;
+            }
+            if (reference.getGenNumber() != tokens.getGenNr()) {
+                if (fixedXref) {
+                    Logger logger = LoggerFactory.getLogger(PdfReader.class);
+                    logger.warn(MessageFormatUtil.format(LogMessageConstant.INVALID_INDIRECT_REFERENCE, tokens.getObjNr(), tokens.getGenNr()));
+                    return new PdfNull();
+                } else {
+                    throw new PdfException(PdfException.InvalidIndirectReference1);
+                }
+            }
+        } else {
+            reference = table.add(new PdfIndirectReference(pdfDocument,
+                    num, tokens.getGenNr(), 0).setState(PdfObject.READING));
+        }
+        return reference;
+    }
+
     protected PdfName readPdfName(boolean readAsDirect) {
         if (readAsDirect) {
-            PdfName cachedName = PdfName.staticNames.get(tokens.getStringValue());
+            PdfName cachedName = PdfName.getStaticName(tokens.getTokenBuffer(), tokens.getTokenLength());
             if (cachedName != null)
                 return cachedName;
         }
@@ -824,6 +1096,12 @@ public class PdfReader implements Closeable, Serializable {
                     end--;
                     continue;
                 }
+                if (xref.isLazy() && tokens.tokenValueEqualsTo(PdfTokenizer.N)) {
+                    if (xref.addLazyEntry(num, gen, pos, 0) && pos == 0) {
+                        tokens.throwError(PdfException.FilePosition1CrossReferenceEntryInThisXrefSubsection);
+                    }
+                    continue;
+                }
                 PdfIndirectReference reference = xref.get(num);
                 if (reference == null) {
                     reference = new PdfIndirectReference(pdfDocument, num, gen, pos);
@@ -941,6 +1219,15 @@ public class PdfReader implements Closeable, Serializable {
                     field3 = (field3 << 8) + (b[bptr++] & 0xff);
                 }
                 int base = start;
+                if (xref.isLazy() && base > 0 && (type == 1 || type == 2)) {
+                    if (type == 1) {
+                        xref.addLazyEntry(base, field3, field2, 0);
+                    } else {
+                        xref.addLazyEntry(base, 0, field3, (int) field2);
+                    }
+                    ++start;
+                    continue;
+                }
                 PdfIndirectReference newReference;
                 switch (type) {
                     case 0:
@@ -1131,6 +1418,34 @@ public class PdfReader implements Closeable, Serializable {
         }
     }
 
+    private void checkStreamLength(PdfStream stream) throws IOException {
+        PdfName type = stream.getAsName(PdfName.Type);
+        if (!PdfName.XRefStm.equals(type) && !PdfName.ObjStm.equals(type)) {
+            if (properties.concurrentReading) {
+                synchronized (pdfDocument.getXref()) {
+                    checkPdfStreamLength(stream);
+                }
+            } else {
+                checkPdfStreamLength(stream);
+            }
+        }
+    }
+
+    private static boolean hasPredictor(PdfStream stream) {
+        PdfObject decodeParams = stream.get(PdfName.DecodeParms);
+        if (decodeParams == null) {
+            decodeParams = stream.get(PdfName.DP);
+        }
+        if (decodeParams != null && decodeParams.getType() == PdfObject.ARRAY && ((PdfArray) decodeParams).size() > 0) {
+            decodeParams = ((PdfArray) decodeParams).get(0);
+        }
+        if (decodeParams == null || decodeParams.getType() != PdfObject.DICTIONARY) {
+            return false;
+        }
+        PdfNumber predictor = ((PdfDictionary) decodeParams).getAsNumber(PdfName.Predictor);
+        return predictor != null && (predictor.intValue() == 2 || predictor.intValue() >= 10);
+    }
+
     private void checkPdfStreamLength(PdfStream pdfStream) throws IOException {
         if (!correctStreamLength)
             return;
@@ -1254,4 +1569,30 @@ public class PdfReader implements Closeable, Serializable {
             buffer = null;
         }
     }
+
+    /**
+     * Inflates the stream the same way as the non-strict {@link com.itextpdf.kernel.pdf.filters.FlateDecodeFilter#flateDecode(byte[], boolean)}:
+     * a corrupted or truncated deflate stream ends at the last successfully inflated byte.
+     */
+    private static class LenientInflaterInputStream extends InflaterInputStream {
+
+        private boolean failed = false;
+
+        LenientInflaterInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (failed) {
+                return -1;
+            }
+            try {
+                return super.read(b, off, len);
+            } catch (IOException e) {
+                failed = true;
+                return -1;
+            }
+        }
+    }
 }
@@ -48,6 +48,7 @@ import com.itextpdf.io.source.ByteArrayOutputStream;
 import com.itextpdf.kernel.PdfException;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
@@ -269,6 +270,29 @@ public class PdfStream extends PdfDictionary {
         return bytes;
     }
 
+    /**
+     * Opens the decoded content of the stream for sequential reading.
+     * The content of a stream read from the document is decoded as the returned stream is read,
+     * see {@link PdfReader#readDecodedStream(PdfStream)}, otherwise the decoded bytes are read into memory first.
+     *
+     * @return the decoded content, which shall be closed by the caller.
+     * @throws IOException on error.
+     */
+    InputStream openDecodedStream() throws IOException {
+        if (isFlushed()) {
+            throw new PdfException(PdfException.CannotOperateWithFlushedPdfStream);
+        }
+        if (inputStream == null && (outputStream == null || outputStream.getOutputStream() == null) && getIndirectReference() != null) {
+            PdfReader reader = getIndirectReference().getReader();
+            if (reader != null) {
+                InputStream decodedStream = reader.readDecodedStream(this);
+                return decodedStream != null ? decodedStream : new ByteArrayInputStream(new byte[0]);
+            }
+        }
+        byte[] bytes = getBytes();
+        return new ByteArrayInputStream(bytes != null ? bytes : new byte[0]);
+    }
+
     /**
      * Sets <code>bytes</code> as stream's content.
      * Could not be used with streams which were created by <code>InputStream</code>.
@@ -301,7 +325,7 @@ public class PdfStream extends PdfDictionary {
 
         boolean outputStreamIsUninitialized = outputStream == null;
         if (outputStreamIsUninitialized) {
-            outputStream = new PdfOutputStream(new ByteArrayOutputStream());
+            outputStream = new PdfOutputStream(createBuffer());
         }
 
         if (append) {
@@ -358,7 +382,19 @@ public class PdfStream extends PdfDictionary {
     @SuppressWarnings("unchecked")
     @Override
     public PdfStream makeIndirect(PdfDocument document, PdfIndirectReference reference) {
-        return (PdfStream) super.makeIndirect(document, reference);
+        super.makeIndirect(document, reference);
+        if (outputStream != null && outputStream.getOutputStream() != null
+                && outputStream.getOutputStream().getClass() == ByteArrayOutputStream.class) {
+            IStreamBufferFactory bufferFactory = getStreamBufferFactory();
+            if (bufferFactory != null) {
+                try {
+                    outputStream.replaceBuffer(bufferFactory.createBuffer());
+                } catch (IOException ioe) {
+                    throw new PdfException(PdfException.IoException, ioe, this);
+                }
+            }
+        }
+        return this;
     }
 
     /**
@@ -413,16 +449,34 @@ public class PdfStream extends PdfDictionary {
         PdfStream stream = (PdfStream) from;
         assert inputStream == null : "Try to copy the PdfStream that has been just created.";
         byte[] bytes = stream.getBytes(false);
-        try {
-            outputStream.write(bytes);
-        } catch (IOException ioe) {
-            throw new PdfException(PdfException.CannotCopyObjectContent, ioe, stream);
+        if (outputStream.getCurrentPos() == 0) {
+            // the bytes are a fresh copy, so they can be used as the buffer without copying
+            outputStream.assignBytes(bytes, bytes.length);
+        } else {
+            try {
+                outputStream.write(bytes);
+            } catch (IOException ioe) {
+                throw new PdfException(PdfException.CannotCopyObjectContent, ioe, stream);
+            }
         }
     }
 
     protected void initOutputStream(java.io.OutputStream stream) {
         if (getOutputStream() == null && inputStream == null)
-            outputStream = new PdfOutputStream(stream != null ? stream : new ByteArrayOutputStream());
+            outputStream = new PdfOutputStream(stream != null ? stream : createBuffer());
+    }
+
+    private ByteArrayOutputStream createBuffer() {
+        IStreamBufferFactory bufferFactory = getStreamBufferFactory();
+        return bufferFactory != null ? bufferFactory.createBuffer() : new ByteArrayOutputStream();
+    }
+
+    private IStreamBufferFactory getStreamBufferFactory() {
+        PdfIndirectReference reference = getIndirectReference();
+        if (reference != null && reference.getDocument() != null && reference.getDocument().getWriter() != null) {
+            return reference.getDocument().getWriter().properties.streamBufferFactory;
+        }
+        return null;
     }
 
     /**
@@ -66,8 +66,8 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
 
     private static final long serialVersionUID = -6875544505477707103L;
 
-    private static final byte[] obj = getIsoBytes(" obj\n");
-    private static final byte[] endobj = getIsoBytes("\nendobj\n");
+    static final byte[] obj = getIsoBytes(" obj\n");
+    static final byte[] endobj = getIsoBytes("\nendobj\n");
 
     // For internal usage only
     private PdfOutputStream duplicateStream = null;
@@ -80,6 +80,12 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
      */
     PdfObjectStream objectStream = null;
 
+    /**
+     * Queue of the objects waiting for the compression of stream content,
+     * if streams are compressed on {@link WriterProperties#setCompressionExecutor}.
+     */
+    private transient StreamCompressionQueue compressionQueue;
+
     /**
      * Is used to avoid duplications on object copying.
      * It stores hashes of the indirect reference from the source document and the corresponding
@@ -124,6 +130,9 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
             crypto = new PdfEncryption(encryptProps.publicCertificates,
                     encryptProps.publicKeyEncryptPermissions, encryptProps.encryptionAlgorithm);
         }
+        if (properties.compressionExecutor != null) {
+            compressionQueue = new StreamCompressionQueue(this, properties.compressionExecutor, properties.maxPendingCompressionBytes);
+        }
         if (properties.debugMode) {
             setDebugMode();
         }
@@ -196,6 +205,21 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
         return this;
     }
 
+    /**
+     * Sets the deduplication of the copied streams.
+     * <p/>
+     * When enabled, a stream copied from another document is replaced with an already
+     * copied stream with the same dictionary and content, even if the latter was copied
+     * from a different source document.
+     *
+     * @param streamDeduplication True for enabling deduplication of the copied streams.
+     * @see WriterProperties#useStreamDeduplication()
+     */
+    public PdfWriter setStreamDeduplication(boolean streamDeduplication) {
+        this.properties.streamDeduplication = streamDeduplication;
+        return this;
+    }
+
     /**
      * Write an integer to the underlying stream
      *
@@ -204,6 +228,7 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
      */
     @Override
     public void write(int b) throws java.io.IOException {
+        writeCompressionQueue();
         super.write(b);
         if (duplicateStream != null) {
             duplicateStream.write(b);
@@ -218,6 +243,7 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
      */
     @Override
     public void write(byte[] b) throws java.io.IOException {
+        writeCompressionQueue();
         super.write(b);
         if (duplicateStream != null) {
             duplicateStream.write(b);
@@ -234,6 +260,7 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
      */
     @Override
     public void write(byte[] b, int off, int len) throws java.io.IOException {
+        writeCompressionQueue();
         super.write(b, off, len);
         if (duplicateStream != null) {
             duplicateStream.write(b, off, len);
@@ -241,6 +268,28 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
     }
 
 
+    /**
+     * Gets the current position in the document. Writes all objects waiting for compression first.
+     *
+     * @return current position.
+     */
+    @Override
+    public long getCurrentPos() {
+        writeCompressionQueue();
+        return super.getCurrentPos();
+    }
+
+    /**
+     * Flushes the underlying stream. Writes all objects waiting for compression first.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void flush() throws IOException {
+        writeCompressionQueue();
+        super.flush();
+    }
+
     /**
      * Close the writer and underlying streams.
      *
@@ -249,6 +298,9 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
     @Override
     public void close() throws IOException {
         try {
+            if (compressionQueue != null) {
+                compressionQueue.clear();
+            }
             super.close();
         } finally {
             try {
@@ -292,7 +344,7 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
         if (isFullCompression() && canBeInObjStm) {
             PdfObjectStream objectStream = getObjectStream();
             objectStream.addObject(pdfObject);
-        } else {
+        } else if (compressionQueue == null || !compressionQueue.add(pdfObject)) {
             indirectReference.setOffset(getCurrentPos());
             writeToBody(pdfObject);
         }
@@ -348,7 +400,9 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
         }
 
         SerializedObjectContent serializedContent = null;
-        if (properties.smartMode && tryToFindDuplicate && !checkTypeOfPdfDictionary(obj, PdfName.Page)) {
+        boolean findDuplicateByContent = properties.smartMode ? !checkTypeOfPdfDictionary(obj, PdfName.Page)
+                : properties.streamDeduplication && obj.isStream();
+        if (tryToFindDuplicate && findDuplicateByContent) {
             serializedContent = smartModeSerializer.serializeObject(obj);
             PdfIndirectReference objectRef = smartModeSerializer.getSavedSerializedObject(serializedContent);
             if (objectRef != null) {
@@ -373,6 +427,12 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
         return newObject;
     }
 
+    private void writeCompressionQueue() {
+        if (compressionQueue != null) {
+            compressionQueue.writeAll();
+        }
+    }
+
     /**
      * Writes object to body of PDF document.
      *
@@ -408,7 +468,7 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
         while (needFlush) {
             needFlush = false;
             for (int i = 1; i < xref.size(); i++) {
-                PdfIndirectReference indirectReference = xref.get(i);
+                PdfIndirectReference indirectReference = xref.getIfCreated(i);
                 if (indirectReference != null
                         && indirectReference.checkState(PdfObject.MUST_BE_FLUSHED)) {
                     PdfObject obj = indirectReference.getRefersTo(false);
@@ -430,8 +490,8 @@ public class PdfWriter extends PdfOutputStream implements Serializable {
      */
     protected void flushModifiedWaitingObjects() {
         PdfXrefTable xref = document.getXref();
-        for (int i = 1; i < xref.size(); i++) {
-            PdfIndirectReference indirectReference = xref.get(i);
+        for (int i = xref.nextModified(1); i > 0 && i < xref.size(); i = xref.nextModified(i + 1)) {
+            PdfIndirectReference indirectReference = xref.getIfCreated(i);
             if (null != indirectReference) {
                 PdfObject obj = indirectReference.getRefersTo(false);
                 if (obj != null && !obj.equals(objectStream) && obj.isModified()) {
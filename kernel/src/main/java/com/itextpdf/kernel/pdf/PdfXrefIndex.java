@@ -0,0 +1,186 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf;
+
+import java.io.Serializable;
+
+/**
+ * Compact storage of the in-use cross-reference entries which were read from the document,
+ * but for which no {@link PdfIndirectReference} has been created yet.
+ * <p>
+ * Each entry takes one {@code long} and one {@code int}. The indirect reference is created
+ * by {@link PdfXrefTable} on the first access to the corresponding object number,
+ * after which the entry is removed from the index.
+ * </p>
+ */
+class PdfXrefIndex implements Serializable {
+
+    private static final long serialVersionUID = -2419651453245297385L;
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private final PdfDocument document;
+
+    /**
+     * Offset of the object in the document, or its index in the object stream for compressed objects.
+     */
+    private long[] offsets;
+
+    /**
+     * Generation number increased by one for uncompressed objects, negated object stream number for compressed ones.
+     * Zero means that there is no entry for the object number.
+     */
+    private int[] generations;
+
+    private int size = 0;
+
+    PdfXrefIndex(PdfDocument document) {
+        this.document = document;
+        this.offsets = new long[INITIAL_CAPACITY];
+        this.generations = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds an entry of an object stored in the body of the document.
+     *
+     * @param objNr  object number.
+     * @param genNr  generation number.
+     * @param offset offset of the object in the document.
+     */
+    void put(int objNr, int genNr, long offset) {
+        ensureCapacity(objNr + 1);
+        if (generations[objNr] == 0) {
+            size++;
+        }
+        offsets[objNr] = offset;
+        generations[objNr] = genNr + 1;
+    }
+
+    /**
+     * Adds an entry of an object stored in an object stream.
+     *
+     * @param objNr       object number.
+     * @param objStreamNr object number of the object stream, shall be positive.
+     * @param index       index of the object inside the object stream.
+     */
+    void putCompressed(int objNr, int objStreamNr, int index) {
+        assert objStreamNr > 0;
+        ensureCapacity(objNr + 1);
+        if (generations[objNr] == 0) {
+            size++;
+        }
+        offsets[objNr] = index;
+        generations[objNr] = -objStreamNr;
+    }
+
+    boolean contains(int objNr) {
+        return objNr >= 0 && objNr < generations.length && generations[objNr] != 0;
+    }
+
+    /**
+     * Creates an indirect reference for the entry and removes the entry from the index.
+     *
+     * @param objNr object number.
+     * @return created reference, or {@code null} if there is no entry for the object number.
+     */
+    PdfIndirectReference createReference(int objNr) {
+        if (!contains(objNr)) {
+            return null;
+        }
+        PdfIndirectReference reference;
+        int generation = generations[objNr];
+        if (generation > 0) {
+            reference = new PdfIndirectReference(document, objNr, generation - 1, offsets[objNr]);
+        } else {
+            reference = new PdfIndirectReference(document, objNr, 0, offsets[objNr]);
+            reference.setObjStreamNumber(-generation);
+        }
+        remove(objNr);
+        return reference;
+    }
+
+    void remove(int objNr) {
+        if (contains(objNr)) {
+            generations[objNr] = 0;
+            offsets[objNr] = 0;
+            size--;
+        }
+    }
+
+    /**
+     * Gets the number of entries which are still waiting to be materialized.
+     *
+     * @return number of entries.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the upper bound (exclusive) of the object numbers stored in the index.
+     *
+     * @return capacity of the index.
+     */
+    int capacity() {
+        return generations.length;
+    }
+
+    void ensureCapacity(int capacity) {
+        if (capacity > generations.length) {
+            int newCapacity = Math.max(capacity, generations.length << 1);
+            long[] newOffsets = new long[newCapacity];
+            System.arraycopy(offsets, 0, newOffsets, 0, offsets.length);
+            offsets = newOffsets;
+            int[] newGenerations = new int[newCapacity];
+            System.arraycopy(generations, 0, newGenerations, 0, generations.length);
+            generations = newGenerations;
+        }
+    }
+
+    void clear() {
+        offsets = new long[INITIAL_CAPACITY];
+        generations = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+}
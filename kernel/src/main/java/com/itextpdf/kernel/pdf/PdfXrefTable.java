@@ -50,6 +50,7 @@ import java.io.IOException;
 import java.io.Serializable;
 import com.itextpdf.io.util.MessageFormatUtil;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.TreeSet;
 
@@ -66,6 +67,20 @@ class PdfXrefTable implements Serializable {
     private PdfIndirectReference[] xref;
     private int count = 0;
 
+    /**
+     * Primitive columns of the entries read in lazy mode, which is the default one,
+     * see {@link ReaderProperties#setLazyXrefReading(boolean)}. {@link #xref} only holds the references
+     * which have already been created for these entries.
+     * {@code null} if all the entries are stored as {@link PdfIndirectReference} instances.
+     */
+    private PdfXrefIndex lazyEntries;
+
+    /**
+     * Object numbers of the references which have been marked as modified, so that saving
+     * in append mode visits only them instead of the whole table.
+     */
+    private final BitSet modifiedReferences = new BitSet();
+
     private final TreeSet<Integer> freeReferences; // TODO not using this collection for now
 
     public PdfXrefTable() {
@@ -105,9 +120,92 @@ class PdfXrefTable implements Serializable {
         if (index > count) {
             return null;
         }
+        PdfIndirectReference reference = index < xref.length ? xref[index] : null;
+        if (reference == null && lazyEntries != null && lazyEntries.contains(index)) {
+            reference = add(lazyEntries.createReference(index));
+        }
+        return reference;
+    }
+
+    /**
+     * Gets indirect reference only if it has been already created,
+     * i.e. the entries which are still kept in the lazy index are not materialized.
+     * Such entries can't refer to modified or flushed objects.
+     *
+     * @param index object number.
+     * @return existing indirect reference or {@code null}.
+     */
+    PdfIndirectReference getIfCreated(int index) {
+        if (index > count || index >= xref.length) {
+            return null;
+        }
         return xref[index];
     }
 
+    /**
+     * Switches the table to the lazy mode: in-use entries read by {@link PdfReader} are stored
+     * in the compact {@link PdfXrefIndex} and indirect references are created on first access.
+     *
+     * @param document the document references belong to.
+     */
+    void enableLazyEntries(PdfDocument document) {
+        if (lazyEntries == null) {
+            lazyEntries = new PdfXrefIndex(document);
+        }
+    }
+
+    boolean isLazy() {
+        return lazyEntries != null;
+    }
+
+    /**
+     * Adds an in-use entry read from a cross-reference section in lazy mode.
+     * Entries which are already known from the more recent sections are not overridden,
+     * except for the references created while reading with {@link PdfObject#READING} state.
+     *
+     * @param objNr       object number.
+     * @param genNr       generation number.
+     * @param offset      offset of the object in the document, or the index of the object in the object stream.
+     * @param objStreamNr object number of the object stream, or zero if the object isn't compressed.
+     * @return true if a new entry was added, false if there already was an entry for the object number.
+     */
+    boolean addLazyEntry(int objNr, int genNr, long offset, int objStreamNr) {
+        assert lazyEntries != null;
+        PdfIndirectReference reference = getIfCreated(objNr);
+        if (reference != null) {
+            if (reference.checkState(PdfObject.READING) && reference.getGenNumber() == genNr) {
+                reference.setOffset(offset);
+                reference.setObjStreamNumber(objStreamNr);
+                reference.clearState(PdfObject.READING);
+            }
+            return false;
+        }
+        if (lazyEntries.contains(objNr)) {
+            return false;
+        }
+        if (objStreamNr > 0) {
+            lazyEntries.putCompressed(objNr, objStreamNr, (int) offset);
+        } else {
+            lazyEntries.put(objNr, genNr, offset);
+        }
+        this.count = Math.max(this.count, objNr);
+        return true;
+    }
+
+    void markModified(int objNr) {
+        modifiedReferences.set(objNr);
+    }
+
+    /**
+     * Gets the next object number, which has been marked as modified.
+     *
+     * @param fromObjNr object number to start the search from, inclusive.
+     * @return the next modified object number, or -1 if there is no such number.
+     */
+    int nextModified(int fromObjNr) {
+        return modifiedReferences.nextSetBit(fromObjNr);
+    }
+
     /**
      * Creates next available indirect reference.
      *
@@ -145,7 +243,9 @@ class PdfXrefTable implements Serializable {
     }
 
     protected void setCapacity(int capacity) {
-        if (capacity > xref.length) {
+        if (lazyEntries != null) {
+            lazyEntries.ensureCapacity(capacity);
+        } else if (capacity > xref.length) {
             extendXref(capacity);
         }
     }
@@ -158,8 +258,21 @@ class PdfXrefTable implements Serializable {
     protected void writeXrefTableAndTrailer(PdfDocument document, PdfObject fileId, PdfObject crypto) throws IOException {
         PdfWriter writer = document.getWriter();
 
+        if (lazyEntries != null) {
+            if (!document.properties.appendMode) {
+                for (int i = 1; i <= count; i++) {
+                    get(i);
+                }
+            }
+            ensureCount(count);
+        }
+
         for (int i = count; i > 0; --i) {
             PdfIndirectReference lastRef = xref[i];
+            if (lastRef == null && lazyEntries != null && lazyEntries.contains(i)) {
+                // not read entry of the original document, it is in use as well as the read ones
+                break;
+            }
             if (lastRef == null
                     || (lastRef.isFree() && lastRef.getGenNumber() == 0)
                     || (!lastRef.checkState(PdfObject.FLUSHED)
@@ -174,6 +287,10 @@ class PdfXrefTable implements Serializable {
         for (int i = count; i >= 0; --i) {
             PdfIndirectReference ref = xref[i];
             if (ref == null) {
+                if (lazyEntries != null && lazyEntries.contains(i)) {
+                    // not modified entry of the original document in append mode
+                    continue;
+                }
                 ref = new PdfIndirectReference(document, i, 0).setState(PdfObject.FREE);
                 xref[i] = ref;
             }
@@ -320,7 +437,10 @@ class PdfXrefTable implements Serializable {
     }
 
     void clear() {
-        for (int i = 1; i <= count; i++) {
+        if (lazyEntries != null) {
+            lazyEntries.clear();
+        }
+        for (int i = 1; i <= count && i < xref.length; i++) {
             if (xref[i] != null && xref[i].isFree()) {
                 continue;
             }
@@ -47,6 +47,7 @@ import com.itextpdf.kernel.security.IExternalDecryptionProcess;
 import java.io.Serializable;
 import java.security.Key;
 import java.security.cert.Certificate;
+import java.util.concurrent.ExecutorService;
 
 public class ReaderProperties implements Serializable {
 
@@ -59,6 +60,12 @@ public class ReaderProperties implements Serializable {
     protected String certificateKeyProvider; //added by Aiken Sam for certificate decryption
     protected IExternalDecryptionProcess externalDecryptionProcess;
 
+    protected boolean lazyXrefReading = true;
+
+    protected boolean concurrentReading = false;
+
+    protected transient ExecutorService objectStreamsPreloadExecutor;
+
     /**
      * Defines the password which will be used if the document is encrypted with standard encryption.
      * This could be either user or owner password.
@@ -94,6 +101,51 @@ public class ReaderProperties implements Serializable {
         return this;
     }
 
+    /**
+     * Defines whether the cross-reference entries shall be read lazily.
+     * In lazy mode in-use entries are kept in a compact primitive index while reading cross-reference sections,
+     * and {@link PdfIndirectReference} instances are created only on the first access to the objects.
+     * This considerably decreases memory consumption and opening time for the documents with large
+     * number of objects, when only a few of them are actually processed.
+     * Lazy reading is enabled by default, the eager mode creates a {@link PdfIndirectReference} for each
+     * entry right away, which takes several times more heap per object.
+     * @param lazyXrefReading true to read cross-reference entries lazily, false otherwise. True by default.
+     */
+    public ReaderProperties setLazyXrefReading(boolean lazyXrefReading) {
+        this.lazyXrefReading = lazyXrefReading;
+        return this;
+    }
+
+    /**
+     * Defines that all the object streams of the document shall be read, decoded and parsed right after
+     * opening the document, concurrently on the passed executor, instead of reading each object stream
+     * on the first access to any of its objects.
+     * This speeds up opening of the documents written in full compression mode on multi-core machines.
+     * Note, that all cross-reference entries are created in this case, even if lazy cross-reference
+     * reading is enabled.
+     * @param executor executor to read object streams on, or {@code null} to read object streams on demand.
+     */
+    public ReaderProperties preloadObjectStreams(ExecutorService executor) {
+        this.objectStreamsPreloadExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Defines whether the document shall be opened for concurrent reading.
+     * In this mode a {@link PdfDocument} opened in reading mode may be shared between several threads,
+     * which get pages, resolve objects and read streams in parallel, e.g. to process different pages at once.
+     * Parsing of the indirect objects and the page tree lookups are synchronized, while the stream bytes
+     * are read, decrypted and decoded in the calling threads. A document opened by file name reads
+     * the file with positional reads, without a global lock on the file.
+     * Note, that a single page and its resources shall still be processed by a single thread at a time,
+     * and the document shall not be modified. Concurrent reading is not supported in stamping mode.
+     * @param concurrentReading true to allow concurrent reading of the document, false otherwise. False by default.
+     */
+    public ReaderProperties setConcurrentReading(boolean concurrentReading) {
+        this.concurrentReading = concurrentReading;
+        return this;
+    }
+
     private void clearEncryptionParams() {
         this.password = null;
         this.certificate = null;
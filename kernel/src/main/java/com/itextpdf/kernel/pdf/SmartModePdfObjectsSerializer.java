@@ -53,12 +53,12 @@ class SmartModePdfObjectsSerializer implements Serializable {
 
     private static final long serialVersionUID = 2502203520776244051L;
 
-    private transient MessageDigest md5;
+    private transient MessageDigest sha256;
     private HashMap<SerializedObjectContent, PdfIndirectReference> serializedContentToObj = new HashMap<>();
 
     SmartModePdfObjectsSerializer() {
         try {
-            md5 = MessageDigest.getInstance("MD5");
+            sha256 = MessageDigest.getInstance("SHA-256");
         } catch (Exception e) {
             throw new PdfException(e);
         }
@@ -75,6 +75,16 @@ class SmartModePdfObjectsSerializer implements Serializable {
         return null;
     }
 
+    /**
+     * Gets the content of the object for the comparison with other objects. The content is the digest
+     * of the object serialization, in which indirect objects are represented by their own digests.
+     * Digests of indirect objects are cached in the document of the object, so shared objects are serialized once.
+     * The digest is SHA-256, a collision resistant one, so objects with equal digests are considered equal
+     * without comparing their content: a crafted document cannot make its object substitute another one.
+     *
+     * @param obj the object to get the content of.
+     * @return the object content, or null if the object is neither a dictionary nor a stream.
+     */
     public SerializedObjectContent serializeObject(PdfObject obj) {
         if (!obj.isStream() && !obj.isDictionary()) {
             return null;
@@ -85,14 +95,20 @@ class SmartModePdfObjectsSerializer implements Serializable {
 
         byte[] content = serializedCache.get(indRef);
         if (content == null) {
-            ByteBufferOutputStream bb = new ByteBufferOutputStream();
             int level = 100;
-            serObject(obj, bb, level, serializedCache);
-            content = bb.toByteArray();
+            content = digestObject(obj, level, serializedCache);
+            serializedCache.put(indRef, content);
         }
         return new SerializedObjectContent(content);
     }
 
+    private byte[] digestObject(PdfObject obj, int level, Map<PdfIndirectReference, byte[]> serializedCache) {
+        ByteBufferOutputStream bb = new ByteBufferOutputStream();
+        serObject(obj, bb, level, serializedCache);
+        sha256.update(bb.getBuffer(), 0, bb.size());
+        return sha256.digest();
+    }
+
     private void serObject(PdfObject obj, ByteBufferOutputStream bb, int level, Map<PdfIndirectReference, byte[]> serializedCache) {
         if (level <= 0) {
             return;
@@ -101,28 +117,22 @@ class SmartModePdfObjectsSerializer implements Serializable {
             bb.append("$Lnull");
             return;
         }
-        PdfIndirectReference reference = null;
-        ByteBufferOutputStream savedBb = null;
 
         if (obj.isIndirectReference()) {
-            reference = (PdfIndirectReference) obj;
-            byte[] cached = serializedCache.get(reference);
-            if (cached != null) {
-                bb.append(cached);
-                return;
-            } else {
-                savedBb = bb;
-                bb = new ByteBufferOutputStream();
-                obj = reference.getRefersTo();
+            PdfIndirectReference reference = (PdfIndirectReference) obj;
+            byte[] digest = serializedCache.get(reference);
+            if (digest == null) {
+                digest = digestObject(reference.getRefersTo(), level, serializedCache);
+                serializedCache.put(reference, digest);
             }
+            bb.append("$R").append(digest);
+            return;
         }
 
         if (obj.isStream()) {
             serDic((PdfDictionary) obj, bb, level - 1, serializedCache);
             bb.append("$B");
-            if (level > 0) {
-                bb.append(md5.digest(((PdfStream) obj).getBytes(false)));
-            }
+            bb.append(sha256.digest(((PdfStream) obj).getBytes(false)));
         } else if (obj.isDictionary()) {
             serDic((PdfDictionary) obj, bb, level - 1, serializedCache);
         } else if (obj.isArray()) {
@@ -134,11 +144,6 @@ class SmartModePdfObjectsSerializer implements Serializable {
         } else {
             bb.append("$L").append(obj.toString()); // PdfNull case is also here
         }
-
-        if (savedBb != null) {
-            serializedCache.put(reference, bb.toByteArray());
-            savedBb.append(bb);
-        }
     }
 
     private void serDic(PdfDictionary dic, ByteBufferOutputStream bb, int level,
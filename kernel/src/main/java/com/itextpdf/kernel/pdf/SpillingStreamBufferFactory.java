@@ -0,0 +1,94 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.io.source.ByteBufferSpillingOutputStream;
+import com.itextpdf.io.source.MappedFileSpillingOutputStream;
+
+import java.io.File;
+
+/**
+ * Creates stream buffers which move their content out of the java heap once it exceeds the threshold.
+ * The content is moved either to a direct {@link java.nio.ByteBuffer}, or to a temporary file which is read back
+ * through a memory mapping.
+ */
+public class SpillingStreamBufferFactory implements IStreamBufferFactory {
+
+    private final int threshold;
+    private final boolean useTempFiles;
+    private final File tempDirectory;
+
+    /**
+     * Creates a factory of buffers which move their content to a direct {@link java.nio.ByteBuffer}.
+     *
+     * @param threshold the content size in bytes above which the content is moved out of the java heap.
+     */
+    public SpillingStreamBufferFactory(int threshold) {
+        this.threshold = threshold;
+        this.useTempFiles = false;
+        this.tempDirectory = null;
+    }
+
+    /**
+     * Creates a factory of buffers which move their content to memory mapped temporary files.
+     *
+     * @param threshold     the content size in bytes above which the content is moved out of the java heap.
+     * @param tempDirectory the directory to create temporary files in, or null to use the default temporary directory.
+     */
+    public SpillingStreamBufferFactory(int threshold, File tempDirectory) {
+        this.threshold = threshold;
+        this.useTempFiles = true;
+        this.tempDirectory = tempDirectory;
+    }
+
+    @Override
+    public ByteArrayOutputStream createBuffer() {
+        if (useTempFiles) {
+            return new MappedFileSpillingOutputStream(threshold, tempDirectory);
+        } else {
+            return new ByteBufferSpillingOutputStream(threshold);
+        }
+    }
+}
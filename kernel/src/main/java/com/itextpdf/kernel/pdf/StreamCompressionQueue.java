@@ -0,0 +1,263 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.io.source.DeflaterOutputStream;
+import com.itextpdf.kernel.PdfException;
+import com.itextpdf.kernel.crypto.OutputStreamEncryption;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Compresses the content of the streams flushed by {@link PdfWriter} on an executor.
+ * <p>
+ * A stream, which content shall be compressed, is serialized up to its content and kept in the queue
+ * until its content is compressed. Objects flushed after it are serialized into the queue as well,
+ * so that all objects are written to the document in the order they were flushed.
+ * Object offsets and positions of the written {@link PdfLiteral}s are set when the objects are written to the document.
+ */
+class StreamCompressionQueue {
+
+    private final PdfWriter writer;
+    private final ExecutorService executor;
+    private final long maxPendingBytes;
+
+    private final Deque<PendingObject> pendingObjects = new ArrayDeque<>();
+    private long pendingBytes = 0;
+    private boolean writing = false;
+
+    StreamCompressionQueue(PdfWriter writer, ExecutorService executor, long maxPendingBytes) {
+        this.writer = writer;
+        this.executor = executor;
+        this.maxPendingBytes = maxPendingBytes;
+    }
+
+    /**
+     * Adds the object to the queue, if it is a stream which content shall be compressed,
+     * or if there are objects waiting in the queue.
+     *
+     * @param pdfObject the object to be written.
+     * @return true if the object was added to the queue, false if it shall be written to the document directly.
+     */
+    boolean add(PdfObject pdfObject) throws IOException {
+        byte[] content = null;
+        if (pdfObject.getType() == PdfObject.STREAM) {
+            content = writer.prepareDeferredCompression((PdfStream) pdfObject);
+        }
+        if (content == null && pendingObjects.isEmpty()) {
+            return false;
+        }
+
+        PdfIndirectReference reference = pdfObject.getIndirectReference();
+        PdfOutputStream buffer = new PdfOutputStream(new ByteArrayOutputStream());
+        buffer.document = writer.document;
+        buffer.crypto = writer.crypto;
+        buffer.writtenLiterals = new ArrayList<>();
+        if (writer.crypto != null) {
+            writer.crypto.setHashKeyForNextObject(reference.getObjNumber(), reference.getGenNumber());
+        }
+        buffer.writeInteger(reference.getObjNumber()).
+                writeSpace().
+                writeInteger(reference.getGenNumber()).writeBytes(PdfWriter.obj);
+
+        PendingObject pendingObject;
+        if (content != null) {
+            PdfStream pdfStream = (PdfStream) pdfObject;
+            PdfLiteral length = buffer.writeDeferredStreamHeader(pdfStream);
+            Future<byte[]> compressedContent = executor.submit(new CompressionTask(content, pdfStream.getCompressionLevel()));
+            pendingObject = new PendingObject(reference, buffer, content.length);
+            pendingObject.stream = pdfStream;
+            pendingObject.lengthPosition = (int) length.getPosition();
+            if (writer.checkEncryption(pdfStream)) {
+                pendingObject.crypto = writer.crypto;
+            }
+            pendingObject.compressedContent = compressedContent;
+        } else {
+            buffer.write(pdfObject);
+            buffer.writeBytes(PdfWriter.endobj);
+            pendingObject = new PendingObject(reference, buffer, 0);
+        }
+        pendingObjects.addLast(pendingObject);
+        pendingBytes += pendingObject.size;
+
+        writeCompressed();
+        while (pendingBytes > maxPendingBytes && !pendingObjects.isEmpty()) {
+            writeNext();
+        }
+        return true;
+    }
+
+    /**
+     * Writes all the queued objects to the document, waiting for their compression if needed.
+     * Does nothing if the queue is being written already.
+     */
+    void writeAll() {
+        while (!writing && !pendingObjects.isEmpty()) {
+            writeNext();
+        }
+    }
+
+    /**
+     * Cancels compression of the queued streams and clears the queue.
+     */
+    void clear() {
+        for (PendingObject pendingObject : pendingObjects) {
+            if (pendingObject.compressedContent != null) {
+                pendingObject.compressedContent.cancel(true);
+            }
+        }
+        pendingObjects.clear();
+        pendingBytes = 0;
+    }
+
+    private void writeCompressed() {
+        while (!pendingObjects.isEmpty()) {
+            Future<byte[]> compressedContent = pendingObjects.peekFirst().compressedContent;
+            if (compressedContent != null && !compressedContent.isDone()) {
+                break;
+            }
+            writeNext();
+        }
+    }
+
+    private void writeNext() {
+        PendingObject pendingObject = pendingObjects.removeFirst();
+        pendingBytes -= pendingObject.size;
+        writing = true;
+        try {
+            long offset = writer.getCurrentPos();
+            pendingObject.reference.setOffset(offset);
+            byte[] header = ((ByteArrayOutputStream) pendingObject.buffer.getOutputStream()).toByteArray();
+            int insertedBytes = 0;
+            if (pendingObject.stream == null) {
+                writer.writeBytes(header);
+            } else {
+                byte[] content = getCompressedContent(pendingObject);
+                insertedBytes = writer.writeDeferredStream(header, pendingObject.lengthPosition, content);
+                writer.writeBytes(PdfWriter.endobj);
+                pendingObject.stream.updateLength(content.length);
+            }
+            for (PdfLiteral literal : pendingObject.buffer.writtenLiterals) {
+                long position = literal.getPosition();
+                if (pendingObject.stream != null && position > pendingObject.lengthPosition) {
+                    position += insertedBytes;
+                }
+                literal.setPosition(offset + position);
+            }
+        } finally {
+            writing = false;
+        }
+    }
+
+    private byte[] getCompressedContent(PendingObject pendingObject) {
+        byte[] content;
+        try {
+            content = pendingObject.compressedContent.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PdfException(PdfException.CannotWriteToPdfStream, e, pendingObject.stream);
+        } catch (ExecutionException e) {
+            throw new PdfException(PdfException.CannotWriteToPdfStream, e.getCause(), pendingObject.stream);
+        }
+        if (pendingObject.crypto != null) {
+            PdfIndirectReference reference = pendingObject.reference;
+            pendingObject.crypto.setHashKeyForNextObject(reference.getObjNumber(), reference.getGenNumber());
+            ByteArrayOutputStream encodedStream = new ByteArrayOutputStream();
+            OutputStreamEncryption ose = pendingObject.crypto.getEncryptionStream(encodedStream);
+            try {
+                ose.write(content);
+                ose.finish();
+            } catch (IOException e) {
+                throw new PdfException(PdfException.CannotWriteToPdfStream, e, pendingObject.stream);
+            }
+            content = encodedStream.toByteArray();
+        }
+        return content;
+    }
+
+    private static class PendingObject {
+        final PdfIndirectReference reference;
+        final PdfOutputStream buffer;
+        final long size;
+
+        PdfStream stream;
+        int lengthPosition;
+        PdfEncryption crypto;
+        Future<byte[]> compressedContent;
+
+        PendingObject(PdfIndirectReference reference, PdfOutputStream buffer, long contentSize) {
+            this.reference = reference;
+            this.buffer = buffer;
+            this.size = buffer.getCurrentPos() + contentSize;
+        }
+    }
+
+    private static class CompressionTask implements Callable<byte[]> {
+        private final byte[] content;
+        private final int compressionLevel;
+
+        CompressionTask(byte[] content, int compressionLevel) {
+            this.content = content;
+            this.compressionLevel = compressionLevel;
+        }
+
+        @Override
+        public byte[] call() throws IOException {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            DeflaterOutputStream zip = new DeflaterOutputStream(compressed, compressionLevel);
+            zip.write(content);
+            zip.finish();
+            return compressed.toByteArray();
+        }
+    }
+}
@@ -45,6 +45,7 @@ package com.itextpdf.kernel.pdf;
 
 import java.io.Serializable;
 import java.security.cert.Certificate;
+import java.util.concurrent.ExecutorService;
 
 public class WriterProperties implements Serializable {
 
@@ -62,6 +63,12 @@ public class WriterProperties implements Serializable {
      * and reused if there's an object with the same content later.
      */
     protected boolean smartMode;
+
+    /**
+     * Indicates if the streams copied from other documents are hashed and reused if a stream with the same
+     * dictionary and content has already been copied. Unlike {@link #smartMode} only streams are compared.
+     */
+    protected boolean streamDeduplication;
     protected boolean debugMode;
     protected boolean addXmpMetadata;
     protected PdfVersion pdfVersion;
@@ -76,6 +83,22 @@ public class WriterProperties implements Serializable {
      */
     protected PdfString modifiedDocumentId;
 
+    /**
+     * Executor on which the content of the flushed streams is compressed.
+     * If it is not set, streams are compressed on the writing thread.
+     */
+    protected transient ExecutorService compressionExecutor;
+
+    /**
+     * Maximum number of uncompressed bytes of the streams which may wait for compression at the same time.
+     */
+    protected long maxPendingCompressionBytes;
+
+    /**
+     * Creates buffers for the content of the written streams. If it is not set, the content is kept in the java heap.
+     */
+    protected transient IStreamBufferFactory streamBufferFactory;
+
     public WriterProperties() {
         smartMode = false;
         debugMode = false;
@@ -111,6 +134,21 @@ public class WriterProperties implements Serializable {
         return this;
     }
 
+    /**
+     * Enables deduplication of the copied streams.
+     * <p/>
+     * When a stream (such as a font program, an image or an ICC profile) is copied from another document,
+     * its dictionary and content are hashed and an already copied stream with the same hash is reused,
+     * even if it was copied from a different source document. Unlike smart mode, dictionaries are not
+     * hashed, so the cost of the lookup is paid only for streams.
+     *
+     * @return this {@code WriterProperties} instance
+     */
+    public WriterProperties useStreamDeduplication() {
+        this.streamDeduplication = true;
+        return this;
+    }
+
     /**
      * If true, default XMPMetadata based on {@link PdfDocumentInfo} will be added.
      *
@@ -145,6 +183,40 @@ public class WriterProperties implements Serializable {
         return this;
     }
 
+    /**
+     * Enables compression of the flushed streams on the passed executor. Stream content is compressed
+     * by the executor threads, while the objects are still written to the document in the order they were flushed,
+     * so the resultant document is the same as the one produced with the compression on the writing thread.
+     * <p>
+     * Objects flushed after a stream which is being compressed are kept in memory until the stream is written.
+     * If the size of the uncompressed content of the pending streams exceeds {@code maxPendingBytes},
+     * the writing thread waits for the compression to finish.
+     * <p>
+     * The executor is not shut down by the writer.
+     *
+     * @param executor        executor to compress streams on, or null to compress streams on the writing thread
+     * @param maxPendingBytes maximum size of the uncompressed content of the streams waiting for compression
+     * @return this {@code WriterProperties} instance
+     */
+    public WriterProperties setCompressionExecutor(ExecutorService executor, long maxPendingBytes) {
+        this.compressionExecutor = executor;
+        this.maxPendingCompressionBytes = maxPendingBytes;
+        return this;
+    }
+
+    /**
+     * Defines how the content of the streams is stored until the streams are flushed.
+     * By default stream content is kept in the java heap. {@link SpillingStreamBufferFactory}
+     * moves large stream content to direct buffers or memory mapped temporary files.
+     *
+     * @param factory factory of the stream buffers, or null to keep stream content in the java heap
+     * @return this {@code WriterProperties} instance
+     */
+    public WriterProperties setStreamBufferFactory(IStreamBufferFactory factory) {
+        this.streamBufferFactory = factory;
+        return this;
+    }
+
     /**
      * Sets the encryption options for the document. The userPassword and the
      * ownerPassword can be null or have zero length. In this case the ownerPassword
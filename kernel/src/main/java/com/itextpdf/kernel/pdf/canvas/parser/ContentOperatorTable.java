@@ -0,0 +1,145 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf.canvas.parser;
+
+import com.itextpdf.kernel.pdf.PdfLiteral;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An open addressing table of content operators keyed by the raw bytes of the operator literal.
+ * Operator literals coming from the content stream parser are resolved by their bytes directly,
+ * so no {@link String} has to be built for each operator token.
+ */
+final class ContentOperatorTable {
+
+    private static final int INITIAL_CAPACITY = 128;
+
+    private PdfLiteral[] keys = new PdfLiteral[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private IContentOperator[] operators = new IContentOperator[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Registers the operator for the given operator string.
+     *
+     * @param operatorString the operator id
+     * @param operator       the operator
+     * @return the previously registered operator, if any
+     */
+    IContentOperator put(String operatorString, IContentOperator operator) {
+        PdfLiteral key = new PdfLiteral(operatorString);
+        int index = indexOf(key);
+        if (keys[index] != null) {
+            IContentOperator previous = operators[index];
+            operators[index] = operator;
+            return previous;
+        }
+        keys[index] = key;
+        names[index] = operatorString;
+        operators[index] = operator;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the operator registered for the bytes of the given literal.
+     *
+     * @param operator the operator literal
+     * @return the registered operator, or {@code null} if there is none
+     */
+    IContentOperator get(PdfLiteral operator) {
+        return operators[indexOf(operator)];
+    }
+
+    /**
+     * Gets the operator registered for the given operator string.
+     *
+     * @param operatorString the operator id
+     * @return the registered operator, or {@code null} if there is none
+     */
+    IContentOperator get(String operatorString) {
+        return get(new PdfLiteral(operatorString));
+    }
+
+    List<String> getOperatorStrings() {
+        List<String> result = new ArrayList<>(size);
+        for (String name : names) {
+            if (name != null) {
+                result.add(name);
+            }
+        }
+        return result;
+    }
+
+    private int indexOf(PdfLiteral key) {
+        int mask = keys.length - 1;
+        int hash = key.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+        while (keys[index] != null && !keys[index].equals(key)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void grow() {
+        PdfLiteral[] oldKeys = keys;
+        String[] oldNames = names;
+        IContentOperator[] oldOperators = operators;
+        keys = new PdfLiteral[oldKeys.length * 2];
+        names = new String[oldKeys.length * 2];
+        operators = new IContentOperator[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                names[index] = oldNames[i];
+                operators[index] = oldOperators[i];
+            }
+        }
+    }
+}
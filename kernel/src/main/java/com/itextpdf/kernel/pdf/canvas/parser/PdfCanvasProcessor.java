@@ -43,6 +43,7 @@
  */
 package com.itextpdf.kernel.pdf.canvas.parser;
 
+import com.itextpdf.io.source.IRandomAccessSource;
 import com.itextpdf.io.source.PdfTokenizer;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
 import com.itextpdf.io.source.RandomAccessSourceFactory;
@@ -65,6 +66,7 @@ import com.itextpdf.kernel.geom.Matrix;
 import com.itextpdf.kernel.geom.Path;
 import com.itextpdf.kernel.pdf.PdfArray;
 import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfIndirectReference;
 import com.itextpdf.kernel.pdf.PdfLiteral;
 import com.itextpdf.kernel.pdf.PdfName;
@@ -89,6 +91,7 @@ import com.itextpdf.kernel.pdf.colorspace.PdfPattern;
 import com.itextpdf.kernel.pdf.colorspace.PdfSpecialCs;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -133,9 +136,9 @@ public class PdfCanvasProcessor {
     protected int clippingRule;
 
     /**
-     * A map with all supported operators (PDF syntax).
+     * A table with all supported operators (PDF syntax), keyed by the operator bytes.
      */
-    private Map<String, IContentOperator> operators;
+    private ContentOperatorTable operators;
 
     /**
      * Resources for the content stream.
@@ -177,7 +180,7 @@ public class PdfCanvasProcessor {
     public PdfCanvasProcessor(IEventListener eventListener) {
         this.eventListener = eventListener;
         this.supportedEvents = eventListener.getSupportedEvents();
-        operators = new HashMap<>();
+        operators = new ContentOperatorTable();
         populateOperators();
         xobjectDoHandlers = new HashMap<>();
         populateXObjectDoHandlers();
@@ -234,7 +237,7 @@ public class PdfCanvasProcessor {
      * @return {@link java.util.Collection} containing all the registered operators strings.
      */
     public Collection<String> getRegisteredOperatorStrings() {
-        return new ArrayList<String>(operators.keySet());
+        return operators.getOperatorStrings();
     }
 
     /**
@@ -267,11 +270,70 @@ public class PdfCanvasProcessor {
      * @param resources    the resources of the content stream. Must not be null.
      */
     public void processContent(byte[] contentBytes, PdfResources resources) {
+        processContent(new RandomAccessSourceFactory().createSource(contentBytes), resources);
+    }
+
+    /**
+     * Processes PDF syntax, reading the content stream incrementally, so that the content
+     * doesn't need to be kept in memory as a whole.
+     * The stream is read to the end but is not closed.
+     * <b>Note:</b> If you re-use a given {@link PdfCanvasProcessor}, you must call {@link PdfCanvasProcessor#reset()}
+     *
+     * @param contentStream the decoded content stream
+     * @param resources     the resources of the content stream. Must not be null.
+     */
+    public void processContent(InputStream contentStream, PdfResources resources) {
+        processContent(new RandomAccessSourceFactory().createSequentialSource(contentStream), resources);
+    }
+
+    /**
+     * Processes PDF syntax.
+     * <br/>
+     * <strong>Note:</strong> If you re-use a given {@link PdfCanvasProcessor}, you must call {@link PdfCanvasProcessor#reset()}
+     *
+     * @param page the page to process
+     */
+    public void processPageContent(PdfPage page) {
+        initClippingPath(page);
+        if (isEventSupported(EventType.CLIP_PATH_CHANGED)) {
+            ParserGraphicsState gs = getGraphicsState();
+            eventOccurred(new ClippingPathInfo(gs.getClippingPath(), gs.getCtm()), EventType.CLIP_PATH_CHANGED);
+        }
+        processContent(page.getContentBytes(), page.getResources());
+    }
+
+    /**
+     * Processes PDF syntax of the page, decoding and parsing its content streams incrementally,
+     * see {@link PdfPage#getContentInputStream()}. Use this method for the pages with very large
+     * content streams, which shouldn't be decoded into memory as a whole.
+     * <br/>
+     * <strong>Note:</strong> If you re-use a given {@link PdfCanvasProcessor}, you must call {@link PdfCanvasProcessor#reset()}
+     *
+     * @param page the page to process
+     */
+    public void processPageContentIncrementally(PdfPage page) {
+        initClippingPath(page);
+        if (isEventSupported(EventType.CLIP_PATH_CHANGED)) {
+            ParserGraphicsState gs = getGraphicsState();
+            eventOccurred(new ClippingPathInfo(gs.getClippingPath(), gs.getCtm()), EventType.CLIP_PATH_CHANGED);
+        }
+        InputStream contentStream = page.getContentInputStream();
+        try {
+            processContent(contentStream, page.getResources());
+        } finally {
+            try {
+                contentStream.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void processContent(IRandomAccessSource contentSource, PdfResources resources) {
         if (resources == null) {
             throw new PdfException(PdfException.ResourcesCannotBeNull);
         }
         this.resourcesStack.push(resources);
-        PdfTokenizer tokeniser = new PdfTokenizer(new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(contentBytes)));
+        PdfTokenizer tokeniser = new PdfTokenizer(new RandomAccessFileOrArray(contentSource));
         PdfCanvasParser ps = new PdfCanvasParser(tokeniser, resources);
         List<PdfObject> operands = new ArrayList<>();
         try {
@@ -287,19 +349,6 @@ public class PdfCanvasProcessor {
 
     }
 
-    /**
-     * Processes PDF syntax.
-     * <br/>
-     * <strong>Note:</strong> If you re-use a given {@link PdfCanvasProcessor}, you must call {@link PdfCanvasProcessor#reset()}
-     *
-     * @param page the page to process
-     */
-    public void processPageContent(PdfPage page) {
-        initClippingPath(page);
-        ParserGraphicsState gs = getGraphicsState();
-        eventOccurred(new ClippingPathInfo(gs.getClippingPath(), gs.getCtm()), EventType.CLIP_PATH_CHANGED);
-        processContent(page.getContentBytes(), page.getResources());
-    }
 
     /**
      * Accessor method for the {@link IEventListener} object maintained in this class.
@@ -425,14 +474,18 @@ public class PdfCanvasProcessor {
      *                  In case it isn't applicable pass any <CODE>byte</CODE> value.
      */
     protected void paintPath(int operation, int rule) {
-        PathRenderInfo renderInfo = new PathRenderInfo(currentPath, operation, rule, isClip, clippingRule, getGraphicsState());
-        eventOccurred(renderInfo, EventType.RENDER_PATH);
+        if (isEventSupported(EventType.RENDER_PATH)) {
+            PathRenderInfo renderInfo = new PathRenderInfo(currentPath, operation, rule, isClip, clippingRule, getGraphicsState());
+            eventOccurred(renderInfo, EventType.RENDER_PATH);
+        }
 
         if (isClip) {
             isClip = false;
             ParserGraphicsState gs = getGraphicsState();
             gs.clip(currentPath, clippingRule);
-            eventOccurred(new ClippingPathInfo(gs.getClippingPath(), gs.getCtm()), EventType.CLIP_PATH_CHANGED);
+            if (isEventSupported(EventType.CLIP_PATH_CHANGED)) {
+                eventOccurred(new ClippingPathInfo(gs.getClippingPath(), gs.getCtm()), EventType.CLIP_PATH_CHANGED);
+            }
         }
 
         currentPath = new Path();
@@ -445,7 +498,7 @@ public class PdfCanvasProcessor {
      * @param operands a list with operands
      */
     protected void invokeOperator(PdfLiteral operator, List<PdfObject> operands) {
-        IContentOperator op = operators.get(operator.toString());
+        IContentOperator op = operators.get(operator);
         if (op == null)
             op = operators.get(DEFAULT_OPERATOR);
         op.invoke(this, operator, operands);
@@ -472,11 +525,19 @@ public class PdfCanvasProcessor {
 
     /**
      * Gets the font pointed to by the indirect reference. The font may have been cached.
+     * If the document is opened in reading mode, the font is taken from the document
+     * (see {@link PdfDocument#getFont(PdfDictionary)}), so that it is shared by all the processors
+     * working with this document.
      *
      * @param fontDict
      * @return the font
      */
     protected PdfFont getFont(PdfDictionary fontDict) {
+        PdfDocument document = fontDict.getIndirectReference().getDocument();
+        if (document != null && document.getWriter() == null) {
+            // fonts of a document opened in reading mode are never flushed, so they can be shared by all processors
+            return document.getFont(fontDict);
+        }
         int n = fontDict.getIndirectReference().getObjNumber();
         WeakReference<PdfFont> fontRef = cachedFonts.get(n);
         PdfFont font = (PdfFont) (fontRef == null ? null : fontRef.get());
@@ -525,7 +586,7 @@ public class PdfCanvasProcessor {
      * @param type event type
      */
     protected void eventOccurred(IEventData data, EventType type) {
-        if (supportedEvents == null || supportedEvents.contains(type)) {
+        if (isEventSupported(type)) {
             eventListener.eventOccurred(data, type);
         }
         if (data instanceof TextRenderInfo) {
@@ -535,6 +596,17 @@ public class PdfCanvasProcessor {
         }
     }
 
+    /**
+     * Checks whether the event listener is interested in the events of the given type,
+     * so that the data of the events nobody listens to is not built at all.
+     *
+     * @param type event type
+     * @return true if the events of the given type are passed to the event listener
+     */
+    private boolean isEventSupported(EventType type) {
+        return supportedEvents == null || supportedEvents.contains(type);
+    }
+
     /**
      * Displays text.
      *
@@ -1049,8 +1121,10 @@ public class PdfCanvasProcessor {
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
             processor.gsStack.pop();
-            ParserGraphicsState gs = processor.getGraphicsState();
-            processor.eventOccurred(new ClippingPathInfo(gs.getClippingPath(), gs.getCtm()), EventType.CLIP_PATH_CHANGED);
+            if (processor.isEventSupported(EventType.CLIP_PATH_CHANGED)) {
+                ParserGraphicsState gs = processor.getGraphicsState();
+                processor.eventOccurred(new ClippingPathInfo(gs.getClippingPath(), gs.getCtm()), EventType.CLIP_PATH_CHANGED);
+            }
         }
     }
 
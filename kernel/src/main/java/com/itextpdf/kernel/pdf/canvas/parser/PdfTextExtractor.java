@@ -43,12 +43,21 @@
  */
 package com.itextpdf.kernel.pdf.canvas.parser;
 
+import com.itextpdf.kernel.PdfException;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.ITextExtractionStrategyFactory;
 import com.itextpdf.kernel.pdf.canvas.parser.listener.LocationTextExtractionStrategy;
 import com.itextpdf.kernel.pdf.canvas.parser.listener.ITextExtractionStrategy;
 import com.itextpdf.kernel.pdf.PdfPage;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public final class PdfTextExtractor {
 
@@ -93,4 +102,94 @@ public final class PdfTextExtractor {
     public static String getTextFromPage(PdfPage page) {
         return getTextFromPage(page, new LocationTextExtractionStrategy());
     }
+
+    /**
+     * Extracts the text of all the pages of the document concurrently on the passed executor.
+     * Each page is processed by its own {@link PdfCanvasProcessor} with a strategy created by the passed factory.
+     * The document shall be opened for concurrent reading,
+     * see {@link com.itextpdf.kernel.pdf.ReaderProperties#setConcurrentReading(boolean)}.
+     * <p>
+     * The returned list is in page order and is available right away, so the text of each page can be consumed
+     * as soon as its future is done, while the subsequent pages are still being processed.
+     *
+     * @param pdfDocument                the document to extract the text from.
+     * @param strategyFactory            the factory to create a strategy for each page.
+     * @param additionalContentOperators additional operators shared by all the processors, they shall be stateless.
+     * @param executor                   the executor to process the pages on.
+     * @return the futures of the text of each page, in page order.
+     */
+    public static List<Future<String>> submitTextFromPages(final PdfDocument pdfDocument, final ITextExtractionStrategyFactory strategyFactory,
+                                                           final Map<String, IContentOperator> additionalContentOperators, ExecutorService executor) {
+        if (!pdfDocument.isConcurrentReading()) {
+            throw new PdfException(PdfException.DocumentMustBeOpenedForConcurrentReading);
+        }
+        int numberOfPages = pdfDocument.getNumberOfPages();
+        List<Future<String>> results = new ArrayList<>(numberOfPages);
+        for (int i = 1; i <= numberOfPages; i++) {
+            final int pageNumber = i;
+            results.add(executor.submit(new Callable<String>() {
+                @Override
+                public String call() {
+                    return getTextFromPage(pdfDocument.getPage(pageNumber), strategyFactory.createStrategy(), additionalContentOperators);
+                }
+            }));
+        }
+        return results;
+    }
+
+    public static List<Future<String>> submitTextFromPages(PdfDocument pdfDocument, ITextExtractionStrategyFactory strategyFactory, ExecutorService executor) {
+        return submitTextFromPages(pdfDocument, strategyFactory, new HashMap<String, IContentOperator>(), executor);
+    }
+
+    /**
+     * Extracts the text of all the pages of the document concurrently on the passed executor
+     * and waits until all the pages are processed, see {@link #submitTextFromPages(PdfDocument, ITextExtractionStrategyFactory, Map, ExecutorService)}.
+     *
+     * @param pdfDocument                the document to extract the text from.
+     * @param strategyFactory            the factory to create a strategy for each page.
+     * @param additionalContentOperators additional operators shared by all the processors, they shall be stateless.
+     * @param executor                   the executor to process the pages on.
+     * @return the text of each page, in page order.
+     */
+    public static List<String> getTextFromPages(PdfDocument pdfDocument, ITextExtractionStrategyFactory strategyFactory,
+                                                Map<String, IContentOperator> additionalContentOperators, ExecutorService executor) {
+        List<Future<String>> results = submitTextFromPages(pdfDocument, strategyFactory, additionalContentOperators, executor);
+        List<String> texts = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                texts.add(results.get(i).get());
+            } catch (ExecutionException e) {
+                cancel(results, i + 1);
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new PdfException(PdfException.CannotExtractTextFromPage1, e.getCause()).setMessageParams(i + 1);
+            } catch (InterruptedException e) {
+                cancel(results, i);
+                Thread.currentThread().interrupt();
+                throw new PdfException(PdfException.CannotExtractTextFromPage1, e).setMessageParams(i + 1);
+            }
+        }
+        return texts;
+    }
+
+    public static List<String> getTextFromPages(PdfDocument pdfDocument, ITextExtractionStrategyFactory strategyFactory, ExecutorService executor) {
+        return getTextFromPages(pdfDocument, strategyFactory, new HashMap<String, IContentOperator>(), executor);
+    }
+
+    public static List<String> getTextFromPages(PdfDocument pdfDocument, ExecutorService executor) {
+        return getTextFromPages(pdfDocument, new ITextExtractionStrategyFactory() {
+            @Override
+            public ITextExtractionStrategy createStrategy() {
+                return new LocationTextExtractionStrategy();
+            }
+        }, executor);
+    }
+
+    private static void cancel(List<Future<String>> results, int from) {
+        // don't interrupt running tasks: an interrupted positional read closes the file channel shared by the document
+        for (int i = from; i < results.size(); i++) {
+            results.get(i).cancel(false);
+        }
+    }
 }
@@ -60,7 +60,9 @@ import com.itextpdf.kernel.pdf.canvas.parser.listener.IEventListener;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Stack;
 
 /**
@@ -73,14 +75,26 @@ import java.util.Stack;
  */
 public class TextRenderInfo implements IEventData {
 
-    private final PdfString string;
+    private PdfString string;
     private String text = null;
-    private final Matrix textToUserSpaceTransformMatrix;
+    private Matrix textToUserSpaceTransformMatrix;
     private CanvasGraphicsState gs;
     private float unscaledWidth = Float.NaN;
     private double[] fontMatrix = null;
     private boolean graphicsStateIsPreserved;
 
+    /**
+     * Lazily calculated values. The geometry is calculated on the first request only,
+     * as most of the listeners need just a part of it, or none at all.
+     */
+    private PdfString[] characterStrings;
+    private LineSegment unscaledBaseline;
+    private LineSegment baseline;
+    private LineSegment ascentLine;
+    private LineSegment descentLine;
+    private float[] ascentDescent;
+    private float singleSpaceWidth = Float.NaN;
+
     /**
      * Hierarchy of nested canvas tags for the text from the most inner (nearest to text) tag to the most outer.
      */
@@ -110,11 +124,31 @@ public class TextRenderInfo implements IEventData {
      * @param horizontalOffset the unscaled horizontal offset of the character that this TextRenderInfo represents
      */
     private TextRenderInfo(TextRenderInfo parent, PdfString string, float horizontalOffset) {
-        this.string = string;
-        this.textToUserSpaceTransformMatrix = new Matrix(horizontalOffset, 0).multiply(parent.textToUserSpaceTransformMatrix);
         this.gs = parent.gs;
         this.canvasTagHierarchy = parent.canvasTagHierarchy;
-        this.fontMatrix = gs.getFont().getFontMatrix();
+        this.fontMatrix = parent.fontMatrix;
+        this.ascentDescent = parent.ascentDescent;
+        moveToCharacter(parent, string, horizontalOffset);
+    }
+
+    /**
+     * Makes this instance represent a single character of the parent text render info.
+     * The values which only depend on the font are kept.
+     */
+    private void moveToCharacter(TextRenderInfo parent, PdfString string, float horizontalOffset) {
+        this.string = string;
+        Matrix m = parent.textToUserSpaceTransformMatrix;
+        // the same as new Matrix(horizontalOffset, 0).multiply(m), but without an intermediate matrix
+        this.textToUserSpaceTransformMatrix = new Matrix(m.get(Matrix.I11), m.get(Matrix.I12), m.get(Matrix.I21), m.get(Matrix.I22),
+                horizontalOffset * m.get(Matrix.I11) + m.get(Matrix.I31), horizontalOffset * m.get(Matrix.I12) + m.get(Matrix.I32));
+        this.text = null;
+        this.unscaledWidth = Float.NaN;
+        this.characterStrings = null;
+        this.unscaledBaseline = null;
+        this.baseline = null;
+        this.ascentLine = null;
+        this.descentLine = null;
+        this.singleSpaceWidth = Float.NaN;
     }
 
     /**
@@ -205,7 +239,10 @@ public class TextRenderInfo implements IEventData {
         if (null == gs) {
             throw new IllegalStateException(LogMessageConstant.GRAPHICS_STATE_WAS_DELETED);
         }
-        return getUnscaledBaselineWithOffset(0 + gs.getTextRise()).transformBy(textToUserSpaceTransformMatrix);
+        if (baseline == null) {
+            baseline = getUnscaledBaseline().transformBy(textToUserSpaceTransformMatrix);
+        }
+        return baseline;
     }
 
     public LineSegment getUnscaledBaseline() {
@@ -213,7 +250,10 @@ public class TextRenderInfo implements IEventData {
         if (null == gs) {
             throw new IllegalStateException(LogMessageConstant.GRAPHICS_STATE_WAS_DELETED);
         }
-        return getUnscaledBaselineWithOffset(0 + gs.getTextRise());
+        if (unscaledBaseline == null) {
+            unscaledBaseline = getUnscaledBaselineWithOffset(0 + gs.getTextRise());
+        }
+        return unscaledBaseline;
     }
 
     /**
@@ -227,7 +267,10 @@ public class TextRenderInfo implements IEventData {
         if (null == gs) {
             throw new IllegalStateException(LogMessageConstant.GRAPHICS_STATE_WAS_DELETED);
         }
-        return getUnscaledBaselineWithOffset(getAscentDescent()[0] + gs.getTextRise()).transformBy(textToUserSpaceTransformMatrix);
+        if (ascentLine == null) {
+            ascentLine = getUnscaledBaselineWithOffset(getAscentDescent()[0] + gs.getTextRise()).transformBy(textToUserSpaceTransformMatrix);
+        }
+        return ascentLine;
     }
 
     /**
@@ -241,7 +284,10 @@ public class TextRenderInfo implements IEventData {
         if (null == gs) {
             throw new IllegalStateException(LogMessageConstant.GRAPHICS_STATE_WAS_DELETED);
         }
-        return getUnscaledBaselineWithOffset(getAscentDescent()[1] + gs.getTextRise()).transformBy(textToUserSpaceTransformMatrix);
+        if (descentLine == null) {
+            descentLine = getUnscaledBaselineWithOffset(getAscentDescent()[1] + gs.getTextRise()).transformBy(textToUserSpaceTransformMatrix);
+        }
+        return descentLine;
     }
 
     /**
@@ -283,25 +329,76 @@ public class TextRenderInfo implements IEventData {
         if (null == gs) {
             throw new IllegalStateException(LogMessageConstant.GRAPHICS_STATE_WAS_DELETED);
         }
-        List<TextRenderInfo> rslt = new ArrayList<>(string.getValue().length());
-        PdfString[] strings = splitString(string);
+        PdfString[] strings = getCharacterStrings();
+        List<TextRenderInfo> rslt = new ArrayList<>(strings.length);
         float totalWidth = 0;
         for (PdfString str : strings) {
-            float[] widthAndWordSpacing = getWidthAndWordSpacing(str);
             TextRenderInfo subInfo = new TextRenderInfo(this, str, totalWidth);
+            totalWidth += subInfo.setCharacterWidth(str);
             rslt.add(subInfo);
-            totalWidth += (widthAndWordSpacing[0] * gs.getFontSize() + gs.getCharSpacing() + widthAndWordSpacing[1]) * (gs.getHorizontalScaling() / 100f);
         }
-        for (TextRenderInfo tri : rslt)
-            tri.getUnscaledWidth();
         return rslt;
     }
 
+    /**
+     * Provides the same information as {@link #getCharacterRenderInfos()}, but without creating an object per glyph:
+     * the iterator returns the same {@link TextRenderInfo} instance for every glyph, moved to the next glyph
+     * on each {@link Iterator#next()} call. Thus the returned instance shall not be stored; the values needed
+     * later shall be copied out of it before moving to the next glyph.
+     *
+     * @return an iterable over the glyphs used in the draw operation, sharing one reusable {@link TextRenderInfo}
+     */
+    public Iterable<TextRenderInfo> iterateCharacterRenderInfos() {
+        // check if graphics state was released
+        if (null == gs) {
+            throw new IllegalStateException(LogMessageConstant.GRAPHICS_STATE_WAS_DELETED);
+        }
+        final PdfString[] strings = getCharacterStrings();
+        return new Iterable<TextRenderInfo>() {
+            @Override
+            public Iterator<TextRenderInfo> iterator() {
+                return new Iterator<TextRenderInfo>() {
+                    private TextRenderInfo glyphInfo;
+                    private int index = 0;
+                    private float totalWidth = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < strings.length;
+                    }
+
+                    @Override
+                    public TextRenderInfo next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        PdfString str = strings[index++];
+                        if (glyphInfo == null) {
+                            glyphInfo = new TextRenderInfo(TextRenderInfo.this, str, totalWidth);
+                        } else {
+                            glyphInfo.moveToCharacter(TextRenderInfo.this, str, totalWidth);
+                        }
+                        totalWidth += glyphInfo.setCharacterWidth(str);
+                        return glyphInfo;
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+
     /**
      * @return The width, in user space units, of a single space character in the current font
      */
     public float getSingleSpaceWidth() {
-        return convertWidthFromTextSpaceToUserSpace(getUnscaledFontSpaceWidth());
+        if (Float.isNaN(singleSpaceWidth)) {
+            singleSpaceWidth = convertWidthFromTextSpaceToUserSpace(getUnscaledFontSpaceWidth());
+        }
+        return singleSpaceWidth;
     }
 
     /**
@@ -566,7 +663,7 @@ public class TextRenderInfo implements IEventData {
             return (widthAndWordSpacing[0] * gs.getFontSize() + gs.getCharSpacing() + widthAndWordSpacing[1]) * gs.getHorizontalScaling() / 100f;
         } else {
             float totalWidth = 0;
-            for (PdfString str : splitString(string)) {
+            for (PdfString str : getCharacterStrings()) {
                 totalWidth += getPdfStringWidth(str, true);
             }
             return totalWidth;
@@ -641,11 +738,34 @@ public class TextRenderInfo implements IEventData {
         return strings.toArray(new PdfString[strings.size()]);
     }
 
+    /**
+     * Sets the unscaled width of a single character text render info.
+     *
+     * @param characterString the single character string this text render info represents
+     * @return the horizontal offset of the next character
+     */
+    private float setCharacterWidth(PdfString characterString) {
+        float[] widthAndWordSpacing = getWidthAndWordSpacing(characterString);
+        float width = widthAndWordSpacing[0] * gs.getFontSize() + gs.getCharSpacing() + widthAndWordSpacing[1];
+        unscaledWidth = width * gs.getHorizontalScaling() / 100f;
+        return width * (gs.getHorizontalScaling() / 100f);
+    }
+
+    private PdfString[] getCharacterStrings() {
+        if (characterStrings == null) {
+            characterStrings = splitString(string);
+        }
+        return characterStrings;
+    }
+
     private float[] getAscentDescent() {
         // check if graphics state was released
         if (null == gs) {
             throw new IllegalStateException(LogMessageConstant.GRAPHICS_STATE_WAS_DELETED);
         }
+        if (ascentDescent != null) {
+            return ascentDescent;
+        }
         float ascent = gs.getFont().getFontProgram().getFontMetrics().getTypoAscender();
         float descent = gs.getFont().getFontProgram().getFontMetrics().getTypoDescender();
 
@@ -657,6 +777,7 @@ public class TextRenderInfo implements IEventData {
         float scale = ascent - descent < 700 ? ascent - descent : 1000;
         descent = descent / scale * gs.getFontSize();
         ascent = ascent / scale * gs.getFontSize();
-        return new float[]{ascent, descent};
+        ascentDescent = new float[]{ascent, descent};
+        return ascentDescent;
     }
 }
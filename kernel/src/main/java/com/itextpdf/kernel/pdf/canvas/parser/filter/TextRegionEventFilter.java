@@ -50,11 +50,18 @@ import com.itextpdf.kernel.pdf.canvas.parser.EventType;
 import com.itextpdf.kernel.pdf.canvas.parser.data.IEventData;
 import com.itextpdf.kernel.pdf.canvas.parser.data.TextRenderInfo;
 
+import java.util.Collections;
+import java.util.Set;
+
 /**
  * This {@link IEventFilter} implementation only accepts text render events within the specified
  * rectangular region.
+ * <p>
+ * Only this class itself declares {@link EventType#RENDER_TEXT} as its single accepted event type.
+ * Subclasses may override {@link #accept(IEventData, EventType)} to accept other events, so they
+ * report no restriction unless they override {@link #getAcceptedEvents()} as well.
  */
-public class TextRegionEventFilter implements IEventFilter {
+public class TextRegionEventFilter implements IEventTypeFilter {
 
     private final Rectangle filterRect;
 
@@ -85,4 +92,9 @@ public class TextRegionEventFilter implements IEventFilter {
             return false;
         }
     }
+
+    @Override
+    public Set<EventType> getAcceptedEvents() {
+        return getClass() == TextRegionEventFilter.class ? Collections.singleton(EventType.RENDER_TEXT) : null;
+    }
 }
@@ -45,8 +45,10 @@ package com.itextpdf.kernel.pdf.canvas.parser.listener;
 
 import com.itextpdf.kernel.pdf.canvas.parser.data.IEventData;
 import com.itextpdf.kernel.pdf.canvas.parser.filter.IEventFilter;
+import com.itextpdf.kernel.pdf.canvas.parser.filter.IEventTypeFilter;
 import com.itextpdf.kernel.pdf.canvas.parser.EventType;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -115,8 +117,40 @@ public class FilteredEventListener implements IEventListener {
         }
     }
 
+    /**
+     * Provides the union of the event types which may be passed on to the delegates. The types of a delegate
+     * are the ones it supports, narrowed by those of its filters which implement {@link IEventTypeFilter}.
+     * The result is computed from the delegates attached at the time of the call, so all the delegates
+     * should be attached before the listener is passed to a {@link com.itextpdf.kernel.pdf.canvas.parser.PdfCanvasProcessor}.
+     *
+     * @return the set of supported event types, or {@code null} if all the types are supported
+     */
     @Override
     public Set<EventType> getSupportedEvents() {
-        return null;
+        if (delegates.isEmpty()) {
+            return null;
+        }
+        Set<EventType> supportedEvents = new LinkedHashSet<>();
+        for (int i = 0; i < delegates.size(); i++) {
+            Set<EventType> delegateEvents = delegates.get(i).getSupportedEvents();
+            for (IEventFilter filter : filters.get(i)) {
+                if (filter instanceof IEventTypeFilter) {
+                    Set<EventType> acceptedEvents = ((IEventTypeFilter) filter).getAcceptedEvents();
+                    if (acceptedEvents != null) {
+                        if (delegateEvents == null) {
+                            delegateEvents = new LinkedHashSet<>(acceptedEvents);
+                        } else {
+                            delegateEvents = new LinkedHashSet<>(delegateEvents);
+                            delegateEvents.retainAll(acceptedEvents);
+                        }
+                    }
+                }
+            }
+            if (delegateEvents == null) {
+                return null;
+            }
+            supportedEvents.addAll(delegateEvents);
+        }
+        return supportedEvents;
     }
 }
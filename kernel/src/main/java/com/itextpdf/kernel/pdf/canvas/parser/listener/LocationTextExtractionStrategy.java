@@ -52,6 +52,7 @@ import com.itextpdf.kernel.pdf.canvas.parser.data.IEventData;
 import com.itextpdf.kernel.pdf.canvas.parser.data.TextRenderInfo;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -276,34 +277,28 @@ public class LocationTextExtractionStrategy implements ITextExtractionStrategy {
     private void sortWithMarks(List<TextChunk> textChunks) {
         Map<TextChunk, TextChunkMarks> marks = new HashMap<>();
         List<TextChunk> toSort = new ArrayList<>();
+        BaseChunkIndex baseChunkIndex = null;
 
         for (int markInd = 0; markInd < textChunks.size(); markInd++) {
             ITextChunkLocation location = textChunks.get(markInd).getLocation();
-            if (location.getStartLocation().equals(location.getEndLocation())) {
-                boolean foundBaseToAttachTo = false;
-                for (int baseInd = 0; baseInd < textChunks.size(); baseInd++) {
-                    if (markInd != baseInd) {
-                        ITextChunkLocation baseLocation = textChunks.get(baseInd).getLocation();
-                        if (!baseLocation.getStartLocation().equals(baseLocation.getEndLocation()) && containsMark(baseLocation, location)) {
-                            TextChunkMarks currentMarks = marks.get(textChunks.get(baseInd));
-                            if (currentMarks == null) {
-                                currentMarks = new TextChunkMarks();
-                                marks.put(textChunks.get(baseInd), currentMarks);
-                            }
-
-                            if (markInd < baseInd) {
-                                currentMarks.preceding.add(textChunks.get(markInd));
-                            } else {
-                                currentMarks.succeeding.add(textChunks.get(markInd));
-                            }
-
-                            foundBaseToAttachTo = true;
-                            break;
-                        }
-                    }
+            if (isMark(location)) {
+                if (baseChunkIndex == null) {
+                    baseChunkIndex = new BaseChunkIndex(textChunks);
                 }
+                int baseInd = baseChunkIndex.findBase(location);
+                if (baseInd >= 0) {
+                    TextChunkMarks currentMarks = marks.get(textChunks.get(baseInd));
+                    if (currentMarks == null) {
+                        currentMarks = new TextChunkMarks();
+                        marks.put(textChunks.get(baseInd), currentMarks);
+                    }
 
-                if (!foundBaseToAttachTo) {
+                    if (markInd < baseInd) {
+                        currentMarks.preceding.add(textChunks.get(markInd));
+                    } else {
+                        currentMarks.succeeding.add(textChunks.get(markInd));
+                    }
+                } else {
                     toSort.add(textChunks.get(markInd));
                 }
             } else {
@@ -347,7 +342,11 @@ public class LocationTextExtractionStrategy implements ITextExtractionStrategy {
         }
     }
 
-    private boolean containsMark(ITextChunkLocation baseLocation, ITextChunkLocation markLocation) {
+    private static boolean isMark(ITextChunkLocation location) {
+        return location.getStartLocation().equals(location.getEndLocation());
+    }
+
+    private static boolean containsMark(ITextChunkLocation baseLocation, ITextChunkLocation markLocation) {
         return baseLocation.getStartLocation().get(Vector.I1) <= markLocation.getStartLocation().get(Vector.I1) && baseLocation.getEndLocation().get(Vector.I1) >= markLocation.getEndLocation().get(Vector.I1) &&
                 Math.abs(baseLocation.distPerpendicular() - markLocation.distPerpendicular()) <= DIACRITICAL_MARKS_ALLOWED_VERTICAL_DEVIATION;
     }
@@ -633,4 +632,64 @@ public class LocationTextExtractionStrategy implements ITextExtractionStrategy {
         List<TextChunk> succeeding = new ArrayList<>();
     }
 
+    /**
+     * The chunks which may have diacritical marks attached, grouped into lines by their perpendicular distance.
+     * A mark can only be attached to a chunk of a line lying within {@link #DIACRITICAL_MARKS_ALLOWED_VERTICAL_DEVIATION},
+     * so only these few lines are searched for the base of a mark instead of all the chunks of the page.
+     */
+    private static class BaseChunkIndex {
+        private final List<TextChunk> textChunks;
+        /**
+         * Perpendicular distance in the high half, chunk index in the low half, sorted,
+         * so that chunks of the same line are contiguous and kept in their original order.
+         */
+        private final long[] lines;
+
+        BaseChunkIndex(List<TextChunk> textChunks) {
+            this.textChunks = textChunks;
+            long[] keys = new long[textChunks.size()];
+            int count = 0;
+            for (int i = 0; i < textChunks.size(); i++) {
+                ITextChunkLocation location = textChunks.get(i).getLocation();
+                if (!isMark(location)) {
+                    keys[count++] = ((long) location.distPerpendicular() << 32) | i;
+                }
+            }
+            lines = Arrays.copyOf(keys, count);
+            Arrays.sort(lines);
+        }
+
+        /**
+         * Finds the chunk the mark shall be attached to: the first chunk, in the order of appearance, which contains the mark.
+         *
+         * @param markLocation the location of the mark
+         * @return the index of the base chunk, or -1 if there is no chunk containing the mark
+         */
+        int findBase(ITextChunkLocation markLocation) {
+            int minDistPerpendicular = (int) Math.ceil(markLocation.distPerpendicular() - DIACRITICAL_MARKS_ALLOWED_VERTICAL_DEVIATION);
+            int maxDistPerpendicular = (int) Math.floor(markLocation.distPerpendicular() + DIACRITICAL_MARKS_ALLOWED_VERTICAL_DEVIATION);
+            int result = -1;
+            int i = Arrays.binarySearch(lines, (long) minDistPerpendicular << 32);
+            if (i < 0) {
+                i = -i - 1;
+            }
+            while (i < lines.length) {
+                int distPerpendicular = (int) (lines[i] >> 32);
+                if (distPerpendicular > maxDistPerpendicular) {
+                    break;
+                }
+                int index = (int) lines[i];
+                if ((result < 0 || index < result) && containsMark(textChunks.get(index).getLocation(), markLocation)) {
+                    result = index;
+                    // the rest of the line can't give a smaller index
+                    while (i + 1 < lines.length && (int) (lines[i + 1] >> 32) == distPerpendicular) {
+                        i++;
+                    }
+                }
+                i++;
+            }
+            return result;
+        }
+    }
+
 }
@@ -137,7 +137,7 @@ public class RegexBasedLocationExtractionStrategy implements ILocationExtraction
      */
     protected List<CharacterRenderInfo> toCRI(TextRenderInfo tri) {
         List<CharacterRenderInfo> cris = new ArrayList<>();
-        for (TextRenderInfo subTri : tri.getCharacterRenderInfos()) {
+        for (TextRenderInfo subTri : tri.iterateCharacterRenderInfos()) {
             cris.add(new CharacterRenderInfo(subTri));
         }
         return cris;
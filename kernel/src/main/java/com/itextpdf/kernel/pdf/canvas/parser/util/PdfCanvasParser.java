@@ -157,7 +157,10 @@ public class PdfCanvasParser {
                 break;
             if (tokeniser.getTokenType() != PdfTokenizer.TokenType.Name)
                 tokeniser.throwError(PdfException.DictionaryKey1IsNotAName, tokeniser.getStringValue());
-            PdfName name = new PdfName(tokeniser.getStringValue());
+            PdfName name = PdfName.getStaticName(tokeniser.getTokenBuffer(), tokeniser.getTokenLength());
+            if (name == null) {
+                name = new PdfName(tokeniser.getStringValue());
+            }
             PdfObject obj = readObject();
             dic.put(name, obj);
         }
@@ -201,11 +204,19 @@ public class PdfCanvasParser {
             case String:
                 PdfString str = new PdfString(tokeniser.getDecodedStringContent()).setHexWriting(tokeniser.isHexString());
                 return str;
-            case Name:
-                return new PdfName(tokeniser.getByteContent());
-            case Number:
+            case Name: {
+                PdfName name = PdfName.getStaticName(tokeniser.getTokenBuffer(), tokeniser.getTokenLength());
+                return name != null ? name : new PdfName(tokeniser.getByteContent());
+            }
+            case Number: {
+                // plain decimal numbers are parsed right from the token buffer, their bytes are generated only when needed
+                int fractionDigits = tokeniser.getFractionDigits();
+                if (fractionDigits >= 0) {
+                    return new PdfNumber(tokeniser.getDoubleValue(), fractionDigits);
+                }
                 //use PdfNumber(byte[]) here, as in this case number parsing won't happen until it's needed.
                 return new PdfNumber(tokeniser.getByteContent());
+            }
             default:
                 return new PdfLiteral(tokeniser.getByteContent());
         }
@@ -45,6 +45,7 @@ package com.itextpdf.kernel.pdf.tagutils;
 
 import com.itextpdf.io.LogMessageConstant;
 import com.itextpdf.kernel.PdfException;
+import com.itextpdf.kernel.pdf.PdfArray;
 import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfName;
@@ -487,6 +488,22 @@ public class TagTreePointer implements Serializable {
      * @return this {@link TagStructureContext} instance.
      */
     public TagTreePointer moveToKid(int kidIndex) {
+        PdfObject k = getCurrentStructElem().getK();
+        if (k != null && k.isArray()) {
+            // Only the requested kid is wrapped, a tag may have very many kids, e.g. the rows of a large table
+            PdfObject kidObject = ((PdfArray) k).get(kidIndex);
+            if (kidObject.isFlushed()) {
+                throw new PdfException(PdfException.CannotMoveToFlushedKid);
+            }
+            if (kidObject.isDictionary() && PdfStructElem.isStructElem((PdfDictionary) kidObject)) {
+                setCurrentStructElem(new PdfStructElem((PdfDictionary) kidObject));
+                return this;
+            } else if (PdfName.MCR.equals(getKidRole(kidObject))) {
+                throw new PdfException(PdfException.CannotMoveToMarkedContentReference);
+            } else {
+                throw new PdfException(PdfException.CannotMoveToFlushedKid);
+            }
+        }
         IPdfStructElem kid = getCurrentStructElem().getKids().get(kidIndex);
         if (kid instanceof PdfStructElem) {
             setCurrentStructElem((PdfStructElem) kid);
@@ -566,6 +583,15 @@ public class TagTreePointer implements Serializable {
      */
     public List<PdfName> getKidsRoles() {
         List<PdfName> roles = new ArrayList<>();
+        PdfObject k = getCurrentStructElem().getK();
+        if (k != null && k.isArray()) {
+            PdfArray kids = (PdfArray) k;
+            for (int i = 0; i < kids.size(); i++) {
+                PdfObject kid = kids.get(i);
+                roles.add(kid.isFlushed() ? null : getKidRole(kid));
+            }
+            return roles;
+        }
         List<IPdfStructElem> kids = getCurrentStructElem().getKids();
         for (IPdfStructElem kid : kids) {
             if (kid == null) {
@@ -579,6 +605,20 @@ public class TagTreePointer implements Serializable {
         return roles;
     }
 
+    /**
+     * Gets the number of the current element kids, flushed ones included.
+     * Unlike {@link #getKidsRoles()}, this method does not need to look at every kid.
+     *
+     * @return current element kids number
+     */
+    public int getKidsCount() {
+        PdfObject k = getCurrentStructElem().getK();
+        if (k == null) {
+            return 0;
+        }
+        return k.isArray() ? ((PdfArray) k).size() : 1;
+    }
+
     /**
      * Flushes the current tag and all it's descenders.
      * This method call moves this {@code TagTreePointer} to the current tag parent.
@@ -688,6 +728,26 @@ public class TagTreePointer implements Serializable {
         return this;
     }
 
+    /**
+     * Gets the role of a not flushed kid object in the same way as {@link #getKidsRoles()} reports it,
+     * without creating a wrapper for the kid.
+     */
+    private static PdfName getKidRole(PdfObject kid) {
+        if (kid.isNumber()) {
+            return PdfName.MCR;
+        } else if (kid.isDictionary()) {
+            PdfDictionary kidDictionary = (PdfDictionary) kid;
+            if (PdfStructElem.isStructElem(kidDictionary)) {
+                return kidDictionary.getAsName(PdfName.S);
+            }
+            PdfName type = kidDictionary.getAsName(PdfName.Type);
+            if (PdfName.MCR.equals(type) || PdfName.OBJR.equals(type)) {
+                return PdfName.MCR;
+            }
+        }
+        return null;
+    }
+
     PdfStructElem getCurrentStructElem() {
         if (currentStructElem.isFlushed()) {
             throw new PdfException(PdfException.TagTreePointerIsInInvalidStateItPointsAtFlushedElementUseMoveToRoot);
@@ -44,6 +44,7 @@
 package com.itextpdf.kernel.utils;
 
 import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -55,6 +56,7 @@ public class PdfMerger {
     private boolean closeSrcDocuments;
     private boolean mergeTags;
     private boolean mergeOutlines;
+    private boolean streamingMode;
 
     /**
      * This class is used to merge a number of existing documents into one. By default, if source document
@@ -93,6 +95,35 @@ public class PdfMerger {
         return this;
     }
 
+    /**
+     * If set to <i>true</i> then pages merged by each <i>{@code PdfMerger#merge}</i> call are flushed to the output
+     * together with all the objects copied for them, and the cache of objects copied from the source document is
+     * dropped. This keeps the memory consumption bounded by the size of a single merged document, regardless of
+     * the number of merged documents, but merged pages can no longer be modified and objects of a source document
+     * merged more than once are written again for every merge call.
+     * Default value - <i>false</i>.
+     * @param streamingMode should be true to flush merged pages right after merging.
+     * @return this {@code PdfMerger} instance.
+     */
+    public PdfMerger setStreamingMode(boolean streamingMode) {
+        this.streamingMode = streamingMode;
+        return this;
+    }
+
+    /**
+     * If set to <i>true</i> then identical streams (such as fonts, images or ICC profiles) of all merged
+     * documents are written only once: a stream whose dictionary and content match an already merged stream
+     * is replaced with a reference to the latter, even if it comes from another source document.
+     * Default value - <i>false</i>.
+     * @param deduplicateStreams should be true to reuse identical streams of the merged documents.
+     * @return this {@code PdfMerger} instance.
+     * @see com.itextpdf.kernel.pdf.WriterProperties#useStreamDeduplication()
+     */
+    public PdfMerger setStreamDeduplication(boolean deduplicateStreams) {
+        pdfDocument.getWriter().setStreamDeduplication(deduplicateStreams);
+        return this;
+    }
+
     /**
      * This method merges pages from the source document to the current one.
      * <br/><br/>
@@ -128,7 +159,14 @@ public class PdfMerger {
             pdfDocument.initializeOutlines();
         }
 
-        from.copyPagesTo(pages, pdfDocument);
+        List<PdfPage> mergedPages = from.copyPagesTo(pages, pdfDocument);
+        if (streamingMode) {
+            // Links, tags and outlines are copied once the whole range is copied, so pages are flushed only now
+            for (PdfPage page : mergedPages) {
+                page.flush();
+            }
+            pdfDocument.flushCopiedObjects(from);
+        }
         if (closeSrcDocuments) {
             from.close();
         }
@@ -0,0 +1,107 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.font;
+
+import com.itextpdf.io.font.cmap.CMapToUnicode;
+import com.itextpdf.kernel.pdf.PdfStream;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class FontUtilTest extends ExtendedITextTest {
+
+    private static final String CMAP = "/CIDInit /ProcSet findresource begin\n" +
+            "12 dict begin\n" +
+            "begincmap\n" +
+            "/CMapName /Adobe-Identity-UCS def\n" +
+            "/CMapType 2 def\n" +
+            "1 begincodespacerange\n" +
+            "<0000> <FFFF>\n" +
+            "endcodespacerange\n" +
+            "2 beginbfchar\n" +
+            "<0003> <0020>\n" +
+            "<0024> <0041>\n" +
+            "endbfchar\n" +
+            "endcmap\n" +
+            "CMapName currentdict /CMap defineresource pop\n" +
+            "end end\n";
+
+    @After
+    public void after() {
+        PdfFontFactory.setToUnicodeCacheSize(0);
+    }
+
+    @Test
+    public void toUnicodeIsParsedForEachStreamByDefaultTest() {
+        CMapToUnicode first = FontUtil.processToUnicode(new PdfStream(CMAP.getBytes()));
+        CMapToUnicode second = FontUtil.processToUnicode(new PdfStream(CMAP.getBytes()));
+        Assert.assertNotSame(first, second);
+        Assert.assertArrayEquals(first.lookup(0x24), second.lookup(0x24));
+    }
+
+    @Test
+    public void toUnicodeIsSharedByDigestTest() {
+        PdfFontFactory.setToUnicodeCacheSize(10);
+        CMapToUnicode first = FontUtil.processToUnicode(new PdfStream(CMAP.getBytes()));
+        CMapToUnicode second = FontUtil.processToUnicode(new PdfStream(CMAP.getBytes()));
+        Assert.assertSame(first, second);
+        Assert.assertArrayEquals(new char[] {'A'}, second.lookup(0x24));
+
+        CMapToUnicode other = FontUtil.processToUnicode(new PdfStream(CMAP.replace("<0041>", "<0042>").getBytes()));
+        Assert.assertNotSame(first, other);
+        Assert.assertArrayEquals(new char[] {'B'}, other.lookup(0x24));
+    }
+
+    @Test
+    public void leastRecentlyUsedToUnicodeIsEvictedTest() {
+        PdfFontFactory.setToUnicodeCacheSize(1);
+        CMapToUnicode first = FontUtil.processToUnicode(new PdfStream(CMAP.getBytes()));
+        FontUtil.processToUnicode(new PdfStream(CMAP.replace("<0041>", "<0042>").getBytes()));
+        Assert.assertNotSame(first, FontUtil.processToUnicode(new PdfStream(CMAP.getBytes())));
+    }
+}
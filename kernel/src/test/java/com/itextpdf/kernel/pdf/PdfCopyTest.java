@@ -237,4 +237,21 @@ public class PdfCopyTest extends ExtendedITextTest {
         assertNull(new CompareTool().compareByContent(destinationFolder + "copySamePageWithAnnotationsSeveralTimes.pdf", sourceFolder + "cmp_copySamePageWithAnnotationsSeveralTimes.pdf", destinationFolder, "diff_"));
     }
 
+    @Test
+    public void copySamePageFromDifferentDocumentsInSmartMode() throws IOException {
+        String filename = sourceFolder + "rotated_annotation.pdf";
+
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(destinationFolder + "copySamePageFromDifferentDocumentsInSmartMode.pdf",
+                new WriterProperties().useSmartMode()));
+        for (int i = 0; i < 3; i++) {
+            PdfDocument sourceDoc = new PdfDocument(new PdfReader(filename));
+            sourceDoc.copyPagesTo(1, 1, pdfDoc);
+            sourceDoc.close();
+        }
+
+        PdfIndirectReference contents = pdfDoc.getPage(1).getFirstContentStream().getIndirectReference();
+        Assert.assertEquals(contents, pdfDoc.getPage(2).getFirstContentStream().getIndirectReference());
+        Assert.assertEquals(contents, pdfDoc.getPage(3).getFirstContentStream().getIndirectReference());
+        pdfDoc.close();
+    }
 }
@@ -42,6 +42,7 @@
  */
 package com.itextpdf.kernel.pdf;
 
+import com.itextpdf.io.source.ByteUtils;
 import com.itextpdf.test.ITextTest;
 import com.itextpdf.test.annotations.type.IntegrationTest;
 import com.itextpdf.test.annotations.type.UnitTest;
@@ -63,4 +64,20 @@ public class PdfNameTest extends ITextTest {
         Assert.assertEquals(str2, createStringByEscaped(name2.getInternalContent()));
     }
 
+    @Test
+    public void staticNameLookupTest() {
+        Assert.assertTrue(PdfName.staticNames.size() > 700);
+        for (PdfName name : PdfName.staticNames.values()) {
+            byte[] content = name.getInternalContent();
+            byte[] buffer = new byte[content.length + 10];
+            System.arraycopy(content, 0, buffer, 0, content.length);
+            Assert.assertSame(name.getValue(), name, PdfName.getStaticName(buffer, content.length));
+        }
+        Assert.assertSame(PdfName.Type, PdfName.getStaticName(ByteUtils.getIsoBytes("TypeFace"), 4));
+        Assert.assertSame(PdfName.ApplicationPdf, PdfName.getStaticName(ByteUtils.getIsoBytes("application#2fpdf"), 17));
+        Assert.assertNull(PdfName.getStaticName(ByteUtils.getIsoBytes("TypeFace"), 8));
+        Assert.assertNull(PdfName.getStaticName(ByteUtils.getIsoBytes("application/pdf"), 15));
+        Assert.assertNull(PdfName.getStaticName(new byte[0], 0));
+    }
+
 }
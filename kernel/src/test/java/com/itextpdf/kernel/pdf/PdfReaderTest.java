@@ -57,12 +57,17 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import com.itextpdf.io.util.MessageFormatUtil;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Category(IntegrationTest.class)
 public class PdfReaderTest extends ExtendedITextTest {
@@ -1546,6 +1551,215 @@ public class PdfReaderTest extends ExtendedITextTest {
     }
 
 
+    @Test
+    public void lazyXrefReadingTest01() throws IOException {
+        String filename = sourceFolder + "1000PagesDocument.pdf";
+
+        PdfReader reader = new PdfReader(filename, new ReaderProperties().setLazyXrefReading(true));
+        PdfDocument pdfDoc = new PdfDocument(reader);
+        PdfXrefTable xref = pdfDoc.getXref();
+        Assert.assertTrue(xref.isLazy());
+
+        int createdReferences = 0;
+        for (int i = 0; i < xref.size(); i++) {
+            if (xref.getIfCreated(i) != null) {
+                createdReferences++;
+            }
+        }
+        Assert.assertTrue("Only a few references shall be created on opening", createdReferences < 20);
+
+        byte[] content = pdfDoc.getPage(1).getContentBytes();
+        Assert.assertTrue(new String(content).contains("(1)Tj"));
+        Assert.assertFalse(reader.hasRebuiltXref());
+        Assert.assertFalse(reader.hasFixedXref());
+        pdfDoc.close();
+    }
+
+    @Test
+    public void xrefEntriesKeptInColumnsByDefaultTest() throws IOException {
+        String filename = sourceFolder + "1000PagesDocument.pdf";
+
+        PdfDocument lazyDoc = new PdfDocument(new PdfReader(filename));
+        Assert.assertTrue(lazyDoc.getXref().isLazy());
+        Assert.assertTrue("Only a few references shall be created on opening", countCreatedReferences(lazyDoc) < 20);
+        lazyDoc.close();
+
+        PdfDocument eagerDoc = new PdfDocument(new PdfReader(filename, new ReaderProperties().setLazyXrefReading(false)));
+        Assert.assertFalse(eagerDoc.getXref().isLazy());
+        Assert.assertEquals(eagerDoc.getNumberOfPdfObjects() - 1, countCreatedReferences(eagerDoc));
+        eagerDoc.close();
+    }
+
+    @Test
+    public void lazyXrefReadingTest02() throws IOException {
+        String[] filenames = new String[] {"1000PagesDocument.pdf", "1000PagesDocumentAppended.pdf",
+                "1000PagesDocumentWithFullCompression.pdf", "1000PagesDocumentWithFullCompressionAppended.pdf",
+                "freeReferences.pdf", "10PagesDocumentWithLeafs.pdf", "stationery.pdf"};
+        for (String filename : filenames) {
+            PdfDocument eagerDoc = new PdfDocument(new PdfReader(sourceFolder + filename, new ReaderProperties().setLazyXrefReading(false)));
+            PdfDocument lazyDoc = new PdfDocument(new PdfReader(sourceFolder + filename, new ReaderProperties().setLazyXrefReading(true)));
+            Assert.assertEquals(filename, eagerDoc.getNumberOfPdfObjects(), lazyDoc.getNumberOfPdfObjects());
+            for (int i = 0; i < eagerDoc.getNumberOfPdfObjects(); i++) {
+                PdfIndirectReference eager = eagerDoc.getXref().get(i);
+                PdfIndirectReference lazy = lazyDoc.getXref().get(i);
+                if (eager == null) {
+                    Assert.assertNull(filename, lazy);
+                    continue;
+                }
+                Assert.assertEquals(filename, eager.getGenNumber(), lazy.getGenNumber());
+                Assert.assertEquals(filename, eager.isFree(), lazy.isFree());
+                Assert.assertEquals(filename, eager.getObjStreamNumber(), lazy.getObjStreamNumber());
+                Assert.assertEquals(filename, eager.getOffset(), lazy.getOffset());
+            }
+            Assert.assertEquals(filename, eagerDoc.getNumberOfPages(), lazyDoc.getNumberOfPages());
+            int lastPage = eagerDoc.getNumberOfPages();
+            Assert.assertArrayEquals(filename, eagerDoc.getPage(lastPage).getContentBytes(), lazyDoc.getPage(lastPage).getContentBytes());
+            eagerDoc.close();
+            lazyDoc.close();
+        }
+    }
+
+    @Test
+    public void lazyXrefReadingAppendModeTest() throws IOException, InterruptedException {
+        String filename = sourceFolder + "1000PagesDocumentWithFullCompressionAppended.pdf";
+        String outFilename = destinationFolder + "lazyXrefReadingAppendMode.pdf";
+        String cmpFilename = destinationFolder + "cmp_lazyXrefReadingAppendMode.pdf";
+
+        PdfDocument cmpDoc = new PdfDocument(new PdfReader(filename, new ReaderProperties().setLazyXrefReading(false)), new PdfWriter(cmpFilename), new StampingProperties().useAppendMode());
+        cmpDoc.getDocumentInfo().setAuthor(author);
+        cmpDoc.close();
+
+        PdfReader reader = new PdfReader(filename, new ReaderProperties().setLazyXrefReading(true));
+        PdfDocument pdfDoc = new PdfDocument(reader, new PdfWriter(outFilename), new StampingProperties().useAppendMode());
+        pdfDoc.getDocumentInfo().setAuthor(author);
+        pdfDoc.close();
+
+        Assert.assertEquals(new java.io.File(cmpFilename).length(), new java.io.File(outFilename).length());
+        PdfDocument resultDoc = new PdfDocument(new PdfReader(outFilename));
+        Assert.assertEquals(author, resultDoc.getDocumentInfo().getAuthor());
+        Assert.assertEquals(1000, resultDoc.getNumberOfPages());
+        Assert.assertFalse(resultDoc.getReader().hasRebuiltXref());
+        resultDoc.close();
+        Assert.assertNull(new CompareTool().compareByContent(outFilename, cmpFilename, destinationFolder, "diff_"));
+    }
+
+    @Test
+    public void lazyXrefReadingAppendModeTrailerSizeTest() throws IOException {
+        String[] filenames = new String[] {"1000PagesDocument.pdf", "1000PagesDocumentWithFullCompression.pdf",
+                "freeReferences.pdf", "10PagesDocumentWithLeafs.pdf"};
+        for (String filename : filenames) {
+            PdfDictionary eagerTrailer = appendModifiedCatalog(sourceFolder + filename, false);
+            PdfDictionary lazyTrailer = appendModifiedCatalog(sourceFolder + filename, true);
+            Assert.assertEquals(filename, eagerTrailer.getAsNumber(PdfName.Size).intValue(),
+                    lazyTrailer.getAsNumber(PdfName.Size).intValue());
+        }
+    }
+
+    @Test
+    public void lazyXrefReadingAppendModeOutputTest() throws IOException {
+        String[] filenames = new String[] {"1000PagesDocument.pdf", "1000PagesDocumentAppended.pdf",
+                "1000PagesDocumentWithFullCompression.pdf", "1000PagesDocumentWithFullCompressionAppended.pdf",
+                "100PagesDocumentWithFlateFilter.pdf", "10PagesDocumentAppended.pdf",
+                "10PagesDocumentWithFullCompressionAppended.pdf", "10PagesDocumentWithLeafs.pdf",
+                "XRefSectionWithFreeReferences4.pdf", "freeReferences.pdf", "freeReferences02.pdf", "hello.pdf",
+                "indirectsChain3.pdf", "simpleCanvasWithFullCompression.pdf", "stationery.pdf"};
+        // the file identifier and the modification date are generated anew on each save
+        String idPattern = "/ID ?\\[<[0-9a-f]*><[0-9a-f]*>\\]|/ModDate\\(D:[^)]*\\)";
+        for (String filename : filenames) {
+            String eagerOutput = new String(appendModifiedCatalogBytes(sourceFolder + filename, false), "ISO-8859-1");
+            String lazyOutput = new String(appendModifiedCatalogBytes(sourceFolder + filename, true), "ISO-8859-1");
+            Assert.assertEquals(filename, eagerOutput.replaceAll(idPattern, ""), lazyOutput.replaceAll(idPattern, ""));
+        }
+    }
+
+    @Test
+    public void preloadObjectStreamsTest() throws IOException {
+        String[] filenames = new String[] {"1000PagesDocumentWithFullCompression.pdf",
+                "1000PagesDocumentWithFullCompressionAppended.pdf", "10PagesDocumentWithFullCompressionAppended.pdf"};
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (String filename : filenames) {
+                PdfDocument pdfDoc = new PdfDocument(new PdfReader(sourceFolder + filename, new ReaderProperties().preloadObjectStreams(executor)));
+                PdfDocument cmpDoc = new PdfDocument(new PdfReader(sourceFolder + filename));
+                PdfXrefTable xref = pdfDoc.getXref();
+                for (int i = 1; i < xref.size(); i++) {
+                    PdfIndirectReference reference = xref.get(i);
+                    if (reference != null && !reference.isFree() && reference.getObjStreamNumber() > 0) {
+                        Assert.assertNotNull(filename + ": " + reference, reference.refersTo);
+                        Assert.assertTrue(xref.get(reference.getObjStreamNumber()).checkState(PdfObject.ORIGINAL_OBJECT_STREAM));
+                    }
+                }
+                Assert.assertEquals(cmpDoc.getNumberOfPages(), pdfDoc.getNumberOfPages());
+                for (int i = 1; i <= cmpDoc.getNumberOfPages(); i++) {
+                    Assert.assertArrayEquals(cmpDoc.getPage(i).getContentBytes(), pdfDoc.getPage(i).getContentBytes());
+                }
+                pdfDoc.close();
+                cmpDoc.close();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentReadingTest() throws Exception {
+        String[] filenames = new String[] {"1000PagesDocument.pdf", "1000PagesDocumentWithFullCompression.pdf",
+                "1000PagesDocumentWithFullCompressionAppended.pdf"};
+        final int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (String filename : filenames) {
+                PdfDocument cmpDoc = new PdfDocument(new PdfReader(sourceFolder + filename));
+                final List<byte[]> cmpContents = new ArrayList<>();
+                for (int i = 1; i <= cmpDoc.getNumberOfPages(); i++) {
+                    cmpContents.add(cmpDoc.getPage(i).getContentBytes());
+                }
+                cmpDoc.close();
+
+                final PdfDocument pdfDoc = new PdfDocument(new PdfReader(sourceFolder + filename, new ReaderProperties().setConcurrentReading(true)));
+                Assert.assertTrue(pdfDoc.isConcurrentReading());
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    final int first = t + 1;
+                    results.add(executor.submit(new Callable<Integer>() {
+                        @Override
+                        public Integer call() {
+                            int checked = 0;
+                            for (int i = first; i <= pdfDoc.getNumberOfPages(); i += threads) {
+                                PdfPage page = pdfDoc.getPage(i);
+                                Assert.assertSame(page, pdfDoc.getPage(page.getPdfObject()));
+                                Assert.assertArrayEquals(cmpContents.get(i - 1), page.getContentBytes());
+                                checked++;
+                            }
+                            return checked;
+                        }
+                    }));
+                }
+                int checked = 0;
+                for (Future<Integer> result : results) {
+                    checked += result.get();
+                }
+                Assert.assertEquals(cmpContents.size(), checked);
+                pdfDoc.close();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentReadingInStampingModeTest() throws IOException {
+        PdfReader reader = new PdfReader(sourceFolder + "hello.pdf", new ReaderProperties().setConcurrentReading(true));
+        try {
+            new PdfDocument(reader, new PdfWriter(new ByteArrayOutputStream()));
+            Assert.fail("Exception expected");
+        } catch (PdfException e) {
+            Assert.assertEquals(PdfException.ConcurrentReadingIsSupportedOnlyInReadingMode, e.getMessage());
+        } finally {
+            reader.close();
+        }
+    }
+
     private boolean objectTypeEqualTo(PdfObject object, PdfName type) {
         PdfName objectType = ((PdfDictionary) object).getAsName(PdfName.Type);
         return type.equals(objectType);
@@ -1591,4 +1805,32 @@ public class PdfReaderTest extends ExtendedITextTest {
         tmpMap.put(new PdfName("b"), new PdfName("c"));
         return new PdfDictionary(tmpMap);
     }
+
+    private static int countCreatedReferences(PdfDocument pdfDoc) {
+        PdfXrefTable xref = pdfDoc.getXref();
+        int createdReferences = 0;
+        for (int i = 1; i < xref.size(); i++) {
+            if (xref.getIfCreated(i) != null) {
+                createdReferences++;
+            }
+        }
+        return createdReferences;
+    }
+
+    private static PdfDictionary appendModifiedCatalog(String filename, boolean lazyXrefReading) throws IOException {
+        PdfDocument resultDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(appendModifiedCatalogBytes(filename, lazyXrefReading))));
+        PdfDictionary trailer = resultDoc.getTrailer();
+        resultDoc.close();
+        return trailer;
+    }
+
+    private static byte[] appendModifiedCatalogBytes(String filename, boolean lazyXrefReading) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PdfDocument pdfDoc = new PdfDocument(new PdfReader(filename, new ReaderProperties().setLazyXrefReading(lazyXrefReading)),
+                new PdfWriter(baos), new StampingProperties().useAppendMode());
+        pdfDoc.getCatalog().put(PdfName.PageMode, PdfName.UseOutlines);
+        pdfDoc.getCatalog().setModified();
+        pdfDoc.close();
+        return baos.toByteArray();
+    }
 }
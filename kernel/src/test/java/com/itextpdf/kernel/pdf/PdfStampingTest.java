@@ -55,7 +55,9 @@ import org.junit.experimental.categories.Category;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 
 import static org.junit.Assert.*;
 
@@ -1216,6 +1218,43 @@ public class PdfStampingTest extends ExtendedITextTest {
         assertPdfDoc.close();
     }
 
+    @Test
+    public void stampingAppendModifiedObjectsOnlyTest() throws IOException {
+        String filename1 = destinationFolder + "stampingAppendModifiedObjectsOnly_1.pdf";
+        String filename2 = destinationFolder + "stampingAppendModifiedObjectsOnly_2.pdf";
+
+        int pageCount = 100;
+        PdfDocument pdfDoc1 = new PdfDocument(new PdfWriter(filename1));
+        for (int i = 1; i <= pageCount; i++) {
+            PdfPage page = pdfDoc1.addNewPage();
+            page.getContentStream(0).getOutputStream().write(ByteUtils.getIsoBytes("%page " + i + "\n"));
+            page.flush();
+        }
+        pdfDoc1.close();
+
+        PdfDocument pdfDoc2 = new PdfDocument(new PdfReader(filename1), new PdfWriter(filename2), new StampingProperties().useAppendMode());
+        List<PdfIndirectReference> contentStreams = new ArrayList<>();
+        for (int i = 1; i <= pageCount; i++) {
+            contentStreams.add((PdfIndirectReference) pdfDoc2.getPage(i).getPdfObject().get(PdfName.Contents, false));
+        }
+        PdfPage page = pdfDoc2.getPage(1);
+        page.getFirstContentStream().setData(ByteUtils.getIsoBytes("%page 1 modified\n"));
+        page.getFirstContentStream().setModified();
+        pdfDoc2.close();
+
+        // Only the modified content stream shall be read while saving the document
+        for (int i = 1; i < pageCount; i++) {
+            assertNull(contentStreams.get(i).refersTo);
+        }
+
+        PdfDocument pdfDoc3 = new PdfDocument(new PdfReader(filename2));
+        assertEquals(false, pdfDoc3.getReader().hasRebuiltXref());
+        assertEquals(pageCount, pdfDoc3.getNumberOfPages());
+        assertEquals("%page 1 modified\n", new String(pdfDoc3.getPage(1).getContentBytes()));
+        assertEquals("%page 100\n", new String(pdfDoc3.getPage(pageCount).getContentBytes()));
+        pdfDoc3.close();
+    }
+
     @Test
     public void stampingAppendVersionTest01() throws IOException {
         // There is a possibility to override version in stamping mode
@@ -1243,6 +1282,34 @@ public class PdfStampingTest extends ExtendedITextTest {
         pdfDoc.close();
     }
 
+    @Test
+    public void stampingRawStreamsTest() throws IOException {
+        String filename = sourceFolder + "iphone_user_guide.pdf";
+        String dest = destinationFolder + "stampingRawStreams.pdf";
+
+        PdfDocument pdfDoc = new PdfDocument(new PdfReader(filename), new PdfWriter(dest));
+        pdfDoc.addNewPage();
+        pdfDoc.close();
+
+        PdfDocument srcDoc = new PdfDocument(new PdfReader(filename));
+        PdfDocument resultDoc = new PdfDocument(new PdfReader(dest));
+        int streamsCount = 0;
+        for (int i = 1; i < srcDoc.getNumberOfPdfObjects(); i++) {
+            PdfObject resultObject = resultDoc.getPdfObject(i);
+            if (resultObject != null && resultObject.isStream()) {
+                PdfStream srcStream = (PdfStream) srcDoc.getPdfObject(i);
+                // streams without filters are compressed on writing, the others are copied as they are
+                boolean decode = !srcStream.containsKey(PdfName.Filter);
+                assertArrayEquals(srcStream.getBytes(decode), ((PdfStream) resultObject).getBytes(decode));
+                streamsCount++;
+            }
+        }
+        assertTrue(streamsCount > 0);
+        assertEquals(srcDoc.getNumberOfPages() + 1, resultDoc.getNumberOfPages());
+        srcDoc.close();
+        resultDoc.close();
+    }
+
     @Test
     public void stampingTestWithFullCompression01() throws IOException, InterruptedException {
         PdfDocument pdfDoc = new PdfDocument(new PdfReader(sourceFolder + "fullCompressedDocument.pdf"),
@@ -334,4 +334,54 @@ public class PdfTokenizerTest {
         tok.nextToken();
         Assert.assertTrue(tok.tokenValueEqualsTo(data.getBytes(StandardCharsets.ISO_8859_1)));
     }
+
+    @Test
+    public void numericValuesTest() throws IOException {
+        String data = "0 -0 7 +7 -12 2147483647 -2147483648 9223372036854775807 1.5 -.25 +3. .5 0.000001 -12345.678901 "
+                + "123456789012345 1234567890123456.7 0.1 --5 --1.5";
+        PdfTokenizer tok = new PdfTokenizer(new RandomAccessFileOrArray(
+                new RandomAccessSourceFactory().createSource(data.getBytes(StandardCharsets.ISO_8859_1))));
+        while (tok.nextToken()) {
+            Assert.assertEquals(PdfTokenizer.TokenType.Number, tok.getTokenType());
+            String token = tok.getStringValue();
+            Assert.assertEquals(token, tok.getTokenLength(), tok.getByteContent().length);
+            Assert.assertEquals(token, Double.doubleToLongBits(Double.parseDouble(token)), Double.doubleToLongBits(tok.getDoubleValue()));
+            if (!token.contains(".")) {
+                Assert.assertEquals(token, Long.parseLong(token), tok.getLongValue());
+                if (token.length() < 11) {
+                    Assert.assertEquals(token, Integer.parseInt(token), tok.getIntValue());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void fractionDigitsTest() throws IOException {
+        String data = "0 7 -12 1.5 1.50 0.000001 -12345.678901 123456789012345 0.10 "
+                + "-0 -0.0 +7 007 -01.5 .5 -.25 3. 1234567890123456 1.2.3 --5"; // "--5" is read as "0"
+        int[] expected = {0, 0, 0, 1, 2, 6, 6, 0, 2, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 0};
+        PdfTokenizer tok = new PdfTokenizer(new RandomAccessFileOrArray(
+                new RandomAccessSourceFactory().createSource(data.getBytes(StandardCharsets.ISO_8859_1))));
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertTrue(tok.nextToken());
+            Assert.assertEquals(tok.getStringValue(), expected[i], tok.getFractionDigits());
+        }
+        Assert.assertFalse(tok.nextToken());
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void intValueOutOfRangeTest() throws IOException {
+        PdfTokenizer tok = new PdfTokenizer(new RandomAccessFileOrArray(
+                new RandomAccessSourceFactory().createSource("2147483648".getBytes(StandardCharsets.ISO_8859_1))));
+        tok.nextToken();
+        tok.getIntValue();
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void doubleValueOfMalformedNumberTest() throws IOException {
+        PdfTokenizer tok = new PdfTokenizer(new RandomAccessFileOrArray(
+                new RandomAccessSourceFactory().createSource("1.2.3".getBytes(StandardCharsets.ISO_8859_1))));
+        tok.nextToken();
+        tok.getDoubleValue();
+    }
 }
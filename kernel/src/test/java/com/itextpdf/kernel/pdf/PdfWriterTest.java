@@ -45,6 +45,7 @@ package com.itextpdf.kernel.pdf;
 import com.itextpdf.io.source.ByteUtils;
 import com.itextpdf.io.util.DateTimeUtil;
 import com.itextpdf.kernel.PdfException;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.type.IntegrationTest;
 import org.junit.Assert;
@@ -53,11 +54,15 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Category(IntegrationTest.class)
 public class PdfWriterTest extends ExtendedITextTest {
@@ -626,4 +631,82 @@ public class PdfWriterTest extends ExtendedITextTest {
         Assert.assertArrayEquals("Stream by InputStream", streamContent.getBytes(), pdfStream.getBytes());
         document.close();
     }
+
+    @Test
+    public void compressionExecutorTest() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            byte[] expected = createDocumentForCompression(createPropertiesWithFixedId());
+            byte[] actual = createDocumentForCompression(createPropertiesWithFixedId().setCompressionExecutor(executor, 1 << 20));
+            Assert.assertArrayEquals(expected, actual);
+
+            expected = createDocumentForCompression(createPropertiesWithFixedId().setFullCompressionMode(true));
+            actual = createDocumentForCompression(createPropertiesWithFixedId().setFullCompressionMode(true).setCompressionExecutor(executor, 1024));
+            Assert.assertArrayEquals(expected, actual);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void compressionExecutorEncryptionTest() throws IOException {
+        byte[] password = "password".getBytes();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        byte[] document;
+        try {
+            document = createDocumentForCompression(new WriterProperties().setCompressionExecutor(executor, 1 << 20)
+                    .setStandardEncryption(password, password, EncryptionConstants.ALLOW_PRINTING, EncryptionConstants.ENCRYPTION_AES_128));
+        } finally {
+            executor.shutdown();
+        }
+
+        PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(document), new ReaderProperties().setPassword(password)));
+        Assert.assertEquals(100, pdfDoc.getNumberOfPages());
+        for (int i = 1; i <= pdfDoc.getNumberOfPages(); i++) {
+            PdfPage page = pdfDoc.getPage(i);
+            Assert.assertEquals("Page " + i, page.getPdfObject().getAsString(new PdfName("Label")).toUnicodeString());
+            String content = new String(page.getContentBytes());
+            Assert.assertTrue(content.contains(i + " " + i + " 100 100 re"));
+        }
+        pdfDoc.close();
+    }
+
+    @Test
+    public void streamBufferFactoryTest() throws IOException {
+        byte[] expected = createDocumentForCompression(createPropertiesWithFixedId());
+        byte[] actual = createDocumentForCompression(createPropertiesWithFixedId()
+                .setStreamBufferFactory(new SpillingStreamBufferFactory(1024)));
+        Assert.assertArrayEquals(expected, actual);
+
+        actual = createDocumentForCompression(createPropertiesWithFixedId()
+                .setStreamBufferFactory(new SpillingStreamBufferFactory(1024, new File(destinationFolder))));
+        Assert.assertArrayEquals(expected, actual);
+    }
+
+    private static WriterProperties createPropertiesWithFixedId() {
+        return new WriterProperties().setInitialDocumentId(new PdfString("initialDocumentId"))
+                .setModifiedDocumentId(new PdfString("modifiedDocumentId"));
+    }
+
+    private static byte[] createDocumentForCompression(WriterProperties properties) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(baos, properties));
+        pdfDoc.getDocumentInfo().getPdfObject().put(PdfName.CreationDate, new PdfString("D:20170101000000+00'00'"));
+        pdfDoc.getDocumentInfo().getPdfObject().put(PdfName.ModDate, new PdfString("D:20170101000000+00'00'"));
+        for (int i = 1; i <= 100; i++) {
+            PdfPage page = pdfDoc.addNewPage();
+            page.getPdfObject().put(new PdfName("Label"), new PdfString("Page " + i));
+            PdfCanvas canvas = new PdfCanvas(page);
+            for (int j = 0; j < 20 * i; j++) {
+                canvas.rectangle(i, j, 100, 100).fill();
+            }
+            canvas.release();
+            if (i % 10 == 0) {
+                new PdfStream(pdfDoc, new ByteArrayInputStream(("Stream " + i).getBytes())).flush();
+            }
+            page.flush();
+        }
+        pdfDoc.close();
+        return baos.toByteArray();
+    }
 }
@@ -64,6 +64,7 @@ import com.itextpdf.kernel.pdf.tagutils.TagStructureContext;
 import com.itextpdf.kernel.utils.CompareTool;
 import com.itextpdf.test.annotations.type.IntegrationTest;
 import com.itextpdf.test.ExtendedITextTest;
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.List;
@@ -314,6 +315,34 @@ public class TagTreePointerTest extends ExtendedITextTest {
         compareResult("tagTreePointerTest06.pdf", "cmp_tagTreePointerTest06.pdf", "diff06_");
     }
 
+    @Test
+    public void tagTreePointerTest07() throws Exception {
+        PdfReader reader = new PdfReader(sourceFolder + "taggedDocument.pdf");
+        PdfDocument document = new PdfDocument(reader, new PdfWriter(new ByteArrayOutputStream()));
+
+        TagTreePointer tagPointer = new TagTreePointer(document);
+        tagPointer.moveToKid(PdfName.Table);
+        List<PdfName> kidsRoles = tagPointer.getKidsRoles();
+        assertEquals(kidsRoles.size(), tagPointer.getKidsCount());
+
+        int lastRowIndex = kidsRoles.lastIndexOf(PdfName.TR);
+        tagPointer.moveToKid(lastRowIndex);
+        assertEquals(PdfName.TR, tagPointer.getRole());
+        tagPointer.moveToKid(PdfName.TD).moveToKid(PdfName.P).moveToKid(PdfName.Span);
+        kidsRoles = tagPointer.getKidsRoles();
+        assertEquals(kidsRoles.size(), tagPointer.getKidsCount());
+
+        int mcrIndex = kidsRoles.indexOf(PdfName.MCR);
+        try {
+            tagPointer.moveToKid(mcrIndex);
+            fail();
+        } catch (PdfException e) {
+            assertEquals(PdfException.CannotMoveToMarkedContentReference, e.getMessage());
+        }
+
+        document.close();
+    }
+
     @Test
     public void tagStructureFlushingTest01() throws IOException, InterruptedException, SAXException, ParserConfigurationException {
         PdfReader reader = new PdfReader(sourceFolder + "taggedDocument.pdf");
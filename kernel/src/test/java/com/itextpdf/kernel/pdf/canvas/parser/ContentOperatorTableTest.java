@@ -0,0 +1,106 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf.canvas.parser;
+
+import com.itextpdf.kernel.pdf.PdfLiteral;
+import com.itextpdf.kernel.pdf.PdfObject;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.HashSet;
+import java.util.List;
+
+@Category(UnitTest.class)
+public class ContentOperatorTableTest extends ExtendedITextTest {
+
+    @Test
+    public void resolveByLiteralBytesTest() {
+        ContentOperatorTable table = new ContentOperatorTable();
+        IContentOperator show = new DummyOperator();
+        IContentOperator star = new DummyOperator();
+        Assert.assertNull(table.put("Tj", show));
+        Assert.assertNull(table.put("T*", star));
+
+        Assert.assertSame(show, table.get(new PdfLiteral("Tj".getBytes())));
+        Assert.assertSame(star, table.get(new PdfLiteral("T*".getBytes())));
+        Assert.assertNull(table.get(new PdfLiteral("TJ".getBytes())));
+        Assert.assertSame(show, table.get("Tj"));
+    }
+
+    @Test
+    public void replaceOperatorTest() {
+        ContentOperatorTable table = new ContentOperatorTable();
+        IContentOperator first = new DummyOperator();
+        IContentOperator second = new DummyOperator();
+        table.put(PdfCanvasProcessor.DEFAULT_OPERATOR, first);
+        Assert.assertSame(first, table.put(PdfCanvasProcessor.DEFAULT_OPERATOR, second));
+        Assert.assertSame(second, table.get(PdfCanvasProcessor.DEFAULT_OPERATOR));
+        Assert.assertEquals(1, table.getOperatorStrings().size());
+    }
+
+    @Test
+    public void growTableTest() {
+        ContentOperatorTable table = new ContentOperatorTable();
+        IContentOperator[] operators = new IContentOperator[500];
+        for (int i = 0; i < operators.length; i++) {
+            operators[i] = new DummyOperator();
+            table.put("op" + i, operators[i]);
+        }
+        for (int i = 0; i < operators.length; i++) {
+            Assert.assertSame(operators[i], table.get(new PdfLiteral(("op" + i).getBytes())));
+        }
+        List<String> operatorStrings = table.getOperatorStrings();
+        Assert.assertEquals(operators.length, new HashSet<>(operatorStrings).size());
+        Assert.assertTrue(operatorStrings.contains("op499"));
+    }
+
+    private static class DummyOperator implements IContentOperator {
+        @Override
+        public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
+        }
+    }
+}
@@ -45,14 +45,19 @@ package com.itextpdf.kernel.pdf.canvas.parser;
 import com.itextpdf.kernel.geom.Rectangle;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.data.IEventData;
 import com.itextpdf.kernel.pdf.canvas.parser.filter.TextRegionEventFilter;
 import com.itextpdf.kernel.pdf.canvas.parser.listener.FilteredEventListener;
 import com.itextpdf.kernel.pdf.canvas.parser.listener.FilteredTextEventListener;
 import com.itextpdf.kernel.pdf.canvas.parser.listener.LocationTextExtractionStrategy;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.SimpleTextExtractionStrategy;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.type.IntegrationTest;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -121,4 +126,58 @@ public class FilteredEventListenerTest extends ExtendedITextTest {
         Assert.assertEquals(expectedText, actualText);
     }
 
+    @Test
+    public void supportedEventsTest() {
+        FilteredEventListener listener = new FilteredEventListener();
+        Assert.assertNull(listener.getSupportedEvents());
+
+        listener.attachEventListener(new LocationTextExtractionStrategy(), new TextRegionEventFilter(new Rectangle(0, 0, 100, 100)));
+        Assert.assertEquals(Collections.singleton(EventType.RENDER_TEXT), listener.getSupportedEvents());
+
+        listener.attachEventListener(new SimpleTextExtractionStrategy());
+        Assert.assertEquals(Collections.singleton(EventType.RENDER_TEXT), listener.getSupportedEvents());
+
+        listener.attachEventListener(new LocationTextExtractionStrategy());
+        Assert.assertNull(listener.getSupportedEvents());
+    }
+
+    @Test
+    public void subclassedRegionFilterDoesNotNarrowEventsTest() {
+        FilteredEventListener listener = new FilteredEventListener();
+        listener.attachEventListener(new LocationTextExtractionStrategy(), new TextRegionEventFilter(new Rectangle(0, 0, 100, 100)) {
+            @Override
+            public boolean accept(IEventData data, EventType type) {
+                return type == EventType.RENDER_IMAGE || super.accept(data, type);
+            }
+        });
+        Assert.assertNull(listener.getSupportedEvents());
+    }
+
+    @Test
+    public void unsupportedEventDataIsNotBuiltTest() throws IOException {
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(sourceFolder + "test.pdf"));
+        Rectangle region = new Rectangle(0, 0, 500, 650);
+
+        FilteredEventListener listener = new FilteredEventListener();
+        LocationTextExtractionStrategy extractionStrategy = listener.attachEventListener(new LocationTextExtractionStrategy(),
+                new TextRegionEventFilter(region));
+        final Map<EventType, Integer> builtEvents = new HashMap<>();
+        new PdfCanvasProcessor(listener) {
+            @Override
+            protected void eventOccurred(IEventData data, EventType type) {
+                Integer count = builtEvents.get(type);
+                builtEvents.put(type, count == null ? 1 : count + 1);
+                super.eventOccurred(data, type);
+            }
+        }.processPageContent(pdfDocument.getPage(1));
+
+        Assert.assertTrue(builtEvents.containsKey(EventType.RENDER_TEXT));
+        Assert.assertFalse(builtEvents.containsKey(EventType.RENDER_PATH));
+        Assert.assertFalse(builtEvents.containsKey(EventType.CLIP_PATH_CHANGED));
+        Assert.assertFalse(builtEvents.containsKey(EventType.RENDER_IMAGE));
+        String expectedText = PdfTextExtractor.getTextFromPage(pdfDocument.getPage(1),
+                new FilteredTextEventListener(new LocationTextExtractionStrategy(), new TextRegionEventFilter(region)));
+        Assert.assertEquals(expectedText, extractionStrategy.getResultantText());
+    }
+
 }
@@ -0,0 +1,184 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf.canvas.parser;
+
+import com.itextpdf.io.font.FontConstants;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.LineSegment;
+import com.itextpdf.kernel.geom.Vector;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.canvas.parser.data.TextRenderInfo;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.LocationTextExtractionStrategy;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.LocationTextExtractionStrategy.ITextChunkLocation;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.LocationTextExtractionStrategy.ITextChunkLocationStrategy;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.LocationTextExtractionStrategy.TextChunkLocationDefaultImp;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+@Category(UnitTest.class)
+public class LocationTextExtractionStrategyTest extends ExtendedITextTest {
+
+    @Test
+    public void markWithinDeviationOfTwoLinesTest() throws IOException {
+        // the mark fits both lines, it goes to the chunk which appears first
+        Assert.assertEquals("A^B", extractText(
+                chunk("A", 0, 10, 100),
+                chunk("B", 0, 10, 98),
+                mark("^", 5, 99)));
+        Assert.assertEquals("AB^", extractText(
+                chunk("B", 0, 10, 98),
+                chunk("A", 0, 10, 100),
+                mark("^", 5, 99)));
+    }
+
+    @Test
+    public void smallestIndexOfSeveralBasesWinsTest() throws IOException {
+        Assert.assertEquals("XC^DE", extractText(
+                chunk("X", 0, 10, 200),
+                chunk("C", 0, 20, 101),
+                chunk("D", 0, 20, 100),
+                chunk("E", 5, 15, 100),
+                mark("^", 10, 100)));
+        Assert.assertEquals("XCD^E", extractText(
+                chunk("X", 0, 10, 200),
+                chunk("D", 0, 20, 100),
+                chunk("C", 0, 20, 101),
+                chunk("E", 5, 15, 100),
+                mark("^", 10, 100)));
+        // the chunk which does not contain the mark is skipped even if it appears first
+        Assert.assertEquals("XCDE^", extractText(
+                chunk("X", 0, 10, 200),
+                chunk("D", 0, 4, 100),
+                chunk("C", 30, 40, 101),
+                chunk("E", 5, 15, 100),
+                mark("^", 10, 100)));
+    }
+
+    @Test
+    public void markPrecedingItsBaseTest() throws IOException {
+        Assert.assertEquals("^AB", extractText(
+                mark("^", 5, 100),
+                chunk("A", 0, 10, 100),
+                chunk("B", 0, 10, 50)));
+        // a mark without a base is kept as a separate chunk
+        Assert.assertEquals("A^", extractText(
+                mark("^", 50, 0),
+                chunk("A", 0, 10, 100)));
+    }
+
+    @Test
+    public void negativeDistPerpendicularTest() throws IOException {
+        // perpendicular distance of a horizontal chunk is -y, so the lines around zero have distances of both signs
+        Assert.assertEquals("NP^", extractText(
+                chunk("P", 0, 10, -1),
+                chunk("N", 0, 10, 1),
+                mark("^", 5, 0)));
+        Assert.assertEquals("N^P", extractText(
+                chunk("N", 0, 10, 1),
+                chunk("P", 0, 10, -1),
+                mark("^", 5, 0)));
+        Assert.assertEquals("NPQ^", extractText(
+                chunk("N", 0, 10, 1),
+                chunk("P", 0, 10, -5),
+                chunk("Q", 0, 10, -9),
+                mark("^", 5, -11)));
+        Assert.assertEquals("NP^Q", extractText(
+                chunk("N", 0, 10, 1),
+                chunk("P", 0, 10, -5),
+                chunk("Q", 0, 10, -9),
+                mark("^", 5, -3)));
+    }
+
+    private static Object[] chunk(String text, float startX, float endX, float y) {
+        return new Object[] {text, new TextChunkLocationDefaultImp(new Vector(startX, y, 1), new Vector(endX, y, 1), 1)};
+    }
+
+    private static Object[] mark(String text, float x, float y) {
+        return new Object[] {text, new TextChunkLocationDefaultImp(new Vector(x, y, 1), new Vector(x, y, 1), 1)};
+    }
+
+    /**
+     * Shows each text with a separate operator and gives the chunks the passed locations instead of the actual ones.
+     * Spaces and line breaks are removed from the result, since they depend on the word boundaries and lines detection
+     * rather than on the order of the chunks.
+     */
+    private static String extractText(Object[]... chunks) throws IOException {
+        List<ITextChunkLocation> locations = new ArrayList<>();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos));
+        PdfCanvas canvas = new PdfCanvas(pdfDocument.addNewPage());
+        canvas.beginText().setFontAndSize(PdfFontFactory.createFont(FontConstants.HELVETICA), 12);
+        for (Object[] chunk : chunks) {
+            canvas.showText((String) chunk[0]);
+            locations.add((ITextChunkLocation) chunk[1]);
+        }
+        canvas.endText();
+        pdfDocument.close();
+
+        final Iterator<ITextChunkLocation> locationIterator = locations.iterator();
+        LocationTextExtractionStrategy strategy = new LocationTextExtractionStrategy(new ITextChunkLocationStrategy() {
+            public ITextChunkLocation createLocation(TextRenderInfo renderInfo, LineSegment baseline) {
+                return locationIterator.next();
+            }
+        });
+        pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())));
+        String text = PdfTextExtractor.getTextFromPage(pdfDocument.getPage(1), strategy);
+        Assert.assertFalse(locationIterator.hasNext());
+        pdfDocument.close();
+        return text.replace(" ", "").replace("\n", "");
+    }
+}
@@ -0,0 +1,91 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf.canvas.parser;
+
+import com.itextpdf.io.source.PdfTokenizer;
+import com.itextpdf.io.source.RandomAccessFileOrArray;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
+import com.itextpdf.kernel.pdf.PdfNumber;
+import com.itextpdf.kernel.pdf.PdfObject;
+import com.itextpdf.kernel.pdf.PdfOutputStream;
+import com.itextpdf.kernel.pdf.canvas.parser.util.PdfCanvasParser;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Category(UnitTest.class)
+public class PdfCanvasParserTest extends ExtendedITextTest {
+
+    @Test
+    public void numericOperandsKeepOriginalTextTest() throws IOException {
+        String content = "0.000012 1.23456789 -0.5 100 12345.678901 .5 1.50 -0 +7 007 3. 1234567890123456.75 cm";
+        PdfCanvasParser parser = new PdfCanvasParser(new PdfTokenizer(new RandomAccessFileOrArray(
+                new RandomAccessSourceFactory().createSource(content.getBytes()))));
+        List<PdfObject> operands = parser.parse(new ArrayList<PdfObject>());
+
+        Assert.assertEquals(13, operands.size());
+        Assert.assertEquals(0.000012, ((PdfNumber) operands.get(0)).doubleValue(), 1e-12);
+        Assert.assertEquals(1.23456789, ((PdfNumber) operands.get(1)).doubleValue(), 1e-12);
+        Assert.assertEquals(1.5, ((PdfNumber) operands.get(6)).doubleValue(), 0);
+        Assert.assertEquals(7, ((PdfNumber) operands.get(8)).intValue());
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PdfOutputStream output = new PdfOutputStream(baos);
+        for (int i = 0; i < operands.size(); i++) {
+            if (i > 0) {
+                output.writeSpace();
+            }
+            output.write(operands.get(i));
+        }
+        output.flush();
+        Assert.assertEquals(content, new String(baos.toByteArray()));
+    }
+}
@@ -54,6 +54,10 @@ import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfPage;
 import com.itextpdf.kernel.pdf.PdfReader;
 import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.io.font.FontConstants;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.test.annotations.LogMessage;
 import com.itextpdf.test.annotations.LogMessages;
 import com.itextpdf.test.annotations.type.IntegrationTest;
@@ -62,6 +66,8 @@ import com.itextpdf.test.ExtendedITextTest;
 import java.io.IOException;
 import java.util.Set;
 
+import org.junit.Assert;
+import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
@@ -69,6 +75,12 @@ import org.junit.experimental.categories.Category;
 public class PdfCanvasProcessorTest extends ExtendedITextTest {
 
     public static final String sourceFolder = "./src/test/resources/com/itextpdf/kernel/parser/PdfCanvasProcessorTest/";
+    public static final String destinationFolder = "./target/test/com/itextpdf/kernel/parser/PdfCanvasProcessorTest/";
+
+    @BeforeClass
+    public static void beforeClass() {
+        createDestinationFolder(destinationFolder);
+    }
 
     @Test
     @LogMessages(messages = @LogMessage(messageTemplate = LogMessageConstant.XREF_ERROR, count = 1))
@@ -140,4 +152,107 @@ public class PdfCanvasProcessorTest extends ExtendedITextTest {
         }
     }
 
+
+    @Test
+    @LogMessages(messages = @LogMessage(messageTemplate = LogMessageConstant.XREF_ERROR, count = 1))
+    public void processPageContentIncrementallyTest() throws IOException {
+        PdfDocument document = new PdfDocument(new PdfReader(sourceFolder + "yaxiststar.pdf"));
+        for (int i = 1; i <= document.getNumberOfPages(); ++i) {
+            EventRecorder expected = new EventRecorder();
+            new PdfCanvasProcessor(expected).processPageContent(document.getPage(i));
+            EventRecorder actual = new EventRecorder();
+            new PdfCanvasProcessor(actual).processPageContentIncrementally(document.getPage(i));
+            Assert.assertTrue(expected.count > 0);
+            Assert.assertEquals(expected.events.toString(), actual.events.toString());
+        }
+        document.close();
+    }
+
+    @Test
+    public void processLargePageContentIncrementallyTest() throws IOException {
+        String filename = destinationFolder + "largePageContent.pdf";
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(filename));
+        PdfPage page = pdfDoc.addNewPage();
+        PdfCanvas canvas = new PdfCanvas(page);
+        for (int i = 0; i < 50000; i++) {
+            canvas.rectangle(i % 500, i % 700, 1 + i % 13, 1 + i % 17).stroke();
+        }
+        canvas = new PdfCanvas(page.newContentStreamAfter(), page.getResources(), pdfDoc);
+        canvas.beginText().setFontAndSize(PdfFontFactory.createFont(FontConstants.HELVETICA), 12);
+        for (int i = 0; i < 5000; i++) {
+            canvas.setTextMatrix(36, 20 + i % 700).showText("Line " + i);
+        }
+        canvas.endText();
+        pdfDoc.close();
+
+        PdfDocument document = new PdfDocument(new PdfReader(filename));
+        Assert.assertTrue(document.getPage(1).getContentBytes().length > 1000000);
+        EventRecorder expected = new EventRecorder();
+        new PdfCanvasProcessor(expected).processPageContent(document.getPage(1));
+        EventRecorder actual = new EventRecorder();
+        new PdfCanvasProcessor(actual).processPageContentIncrementally(document.getPage(1));
+        // clipping path, the rectangles, the lines and the text object boundaries
+        Assert.assertEquals(1 + 50000 + 5000 + 2, expected.count);
+        Assert.assertEquals(expected.count, actual.count);
+        Assert.assertEquals(expected.events.toString(), actual.events.toString());
+        document.close();
+    }
+
+    @Test
+    public void fontsAreSharedInReadingModeTest() throws IOException {
+        String filename = destinationFolder + "sharedFonts.pdf";
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(filename));
+        PdfFont font = PdfFontFactory.createFont(FontConstants.HELVETICA);
+        for (int i = 0; i < 2; i++) {
+            new PdfCanvas(pdfDoc.addNewPage()).beginText().setFontAndSize(font, 12)
+                    .moveText(36, 700).showText("Page " + (i + 1)).endText();
+        }
+        pdfDoc.close();
+
+        PdfDocument document = new PdfDocument(new PdfReader(filename));
+        FontRecorder first = new FontRecorder();
+        new PdfCanvasProcessor(first).processPageContent(document.getPage(1));
+        FontRecorder second = new FontRecorder();
+        new PdfCanvasProcessor(second).processPageContent(document.getPage(2));
+        Assert.assertNotNull(first.font);
+        Assert.assertSame(first.font, second.font);
+        document.close();
+    }
+
+    private static class FontRecorder implements IEventListener {
+        private PdfFont font;
+
+        public void eventOccurred(IEventData data, EventType type) {
+            if (type == EventType.RENDER_TEXT) {
+                font = ((TextRenderInfo) data).getFont();
+            }
+        }
+
+        public Set<EventType> getSupportedEvents() {
+            return null;
+        }
+    }
+
+    private static class EventRecorder implements IEventListener {
+        private StringBuilder events = new StringBuilder();
+        private int count = 0;
+
+        public void eventOccurred(IEventData data, EventType type) {
+            count++;
+            events.append(type);
+            if (type == EventType.RENDER_TEXT) {
+                TextRenderInfo renderInfo = (TextRenderInfo) data;
+                events.append(' ').append(renderInfo.getText()).append(' ').append(renderInfo.getBaseline().getStartPoint());
+            } else if (type == EventType.RENDER_PATH) {
+                PathRenderInfo renderInfo = (PathRenderInfo) data;
+                events.append(' ').append(renderInfo.getOperation()).append(' ').append(renderInfo.getPath().getSubpaths().size())
+                        .append(' ').append(renderInfo.getPath().getCurrentPoint());
+            }
+            events.append('\n');
+        }
+
+        public Set<EventType> getSupportedEvents() {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,140 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.kernel.pdf.canvas.parser;
+
+import com.itextpdf.io.font.FontConstants;
+import com.itextpdf.kernel.PdfException;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.ReaderProperties;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.ITextExtractionStrategy;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.ITextExtractionStrategyFactory;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.SimpleTextExtractionStrategy;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.IntegrationTest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(IntegrationTest.class)
+public class PdfTextExtractorTest extends ExtendedITextTest {
+
+    private static final String destinationFolder = "./target/test/com/itextpdf/kernel/parser/PdfTextExtractorTest/";
+
+    private static final int PAGES_COUNT = 50;
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        createDestinationFolder(destinationFolder);
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(destinationFolder + "manyPages.pdf"));
+        for (int i = 1; i <= PAGES_COUNT; i++) {
+            PdfCanvas canvas = new PdfCanvas(pdfDoc.addNewPage());
+            canvas.beginText()
+                    .setFontAndSize(PdfFontFactory.createFont(FontConstants.HELVETICA), 12)
+                    .moveText(36, 700)
+                    .showText("Page " + i)
+                    .moveText(0, -20)
+                    .showText("The text of the page number " + i)
+                    .endText();
+            canvas.release();
+        }
+        pdfDoc.close();
+    }
+
+    @Test
+    public void getTextFromPagesTest() throws Exception {
+        PdfDocument cmpDoc = new PdfDocument(new PdfReader(destinationFolder + "manyPages.pdf"));
+        PdfDocument pdfDoc = new PdfDocument(new PdfReader(destinationFolder + "manyPages.pdf", new ReaderProperties().setConcurrentReading(true)));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<String> texts = PdfTextExtractor.getTextFromPages(pdfDoc, executor);
+            Assert.assertEquals(PAGES_COUNT, texts.size());
+            for (int i = 1; i <= PAGES_COUNT; i++) {
+                Assert.assertEquals(PdfTextExtractor.getTextFromPage(cmpDoc.getPage(i)), texts.get(i - 1));
+                Assert.assertEquals("Page " + i + "\nThe text of the page number " + i, texts.get(i - 1));
+            }
+
+            List<Future<String>> results = PdfTextExtractor.submitTextFromPages(pdfDoc, new ITextExtractionStrategyFactory() {
+                @Override
+                public ITextExtractionStrategy createStrategy() {
+                    return new SimpleTextExtractionStrategy();
+                }
+            }, executor);
+            Assert.assertEquals(PAGES_COUNT, results.size());
+            for (int i = 1; i <= PAGES_COUNT; i++) {
+                Assert.assertEquals(PdfTextExtractor.getTextFromPage(cmpDoc.getPage(i), new SimpleTextExtractionStrategy()), results.get(i - 1).get());
+            }
+        } finally {
+            executor.shutdown();
+            pdfDoc.close();
+            cmpDoc.close();
+        }
+    }
+
+    @Test
+    public void getTextFromPagesWithoutConcurrentReadingTest() throws IOException {
+        PdfDocument pdfDoc = new PdfDocument(new PdfReader(destinationFolder + "manyPages.pdf"));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            PdfTextExtractor.getTextFromPages(pdfDoc, executor);
+            Assert.fail("Exception expected");
+        } catch (PdfException e) {
+            Assert.assertEquals(PdfException.DocumentMustBeOpenedForConcurrentReading, e.getMessage());
+        } finally {
+            executor.shutdown();
+            pdfDoc.close();
+        }
+    }
+}
@@ -122,6 +122,44 @@ public class TextRenderInfoTest extends ExtendedITextTest {
                 origLineSegment.getEndPoint().get(FIRST_ELEMENT_INDEX), 1 / 2f);
     }
 
+    @Test
+    public void testReusableCharacterRenderInfos() throws Exception {
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(sourceFolder + "simple_text.pdf"));
+        final List<String> expected = new ArrayList<>();
+        final List<String> actual = new ArrayList<>();
+        PdfCanvasProcessor processor = new PdfCanvasProcessor(new IEventListener() {
+            @Override
+            public void eventOccurred(IEventData data, EventType type) {
+                TextRenderInfo renderInfo = (TextRenderInfo) data;
+                Assert.assertSame(renderInfo.getBaseline(), renderInfo.getBaseline());
+                for (TextRenderInfo charInfo : renderInfo.getCharacterRenderInfos()) {
+                    expected.add(describe(charInfo));
+                }
+                TextRenderInfo previous = null;
+                for (TextRenderInfo charInfo : renderInfo.iterateCharacterRenderInfos()) {
+                    Assert.assertTrue(previous == null || previous == charInfo);
+                    actual.add(describe(charInfo));
+                    previous = charInfo;
+                }
+            }
+
+            @Override
+            public Set<EventType> getSupportedEvents() {
+                return Collections.singleton(EventType.RENDER_TEXT);
+            }
+        });
+        processor.processPageContent(pdfDocument.getPage(FIRST_PAGE));
+        pdfDocument.close();
+
+        Assert.assertFalse(expected.isEmpty());
+        Assert.assertEquals(expected, actual);
+    }
+
+    private static String describe(TextRenderInfo charInfo) {
+        return charInfo.getText() + " " + charInfo.getBaseline().getStartPoint() + " " + charInfo.getBaseline().getEndPoint()
+                + " " + charInfo.getAscentLine().getStartPoint() + " " + charInfo.getDescentLine().getEndPoint()
+                + " " + charInfo.getSingleSpaceWidth() + " " + charInfo.getUnscaledWidth();
+    }
 
     private static class TextPositionEventListener implements IEventListener {
         List<LineSegment> lineSegments = new ArrayList<>();
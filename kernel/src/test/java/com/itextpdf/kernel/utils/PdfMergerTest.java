@@ -44,6 +44,7 @@ package com.itextpdf.kernel.utils;
 
 import com.itextpdf.io.LogMessageConstant;
 import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfIndirectReference;
 import com.itextpdf.kernel.pdf.PdfReader;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.test.ExtendedITextTest;
@@ -220,4 +221,93 @@ public class PdfMergerTest extends ExtendedITextTest {
             Assert.fail(errorMessage);
         }
     }
+
+    @Test
+    public void mergeDocumentWithStreamDeduplicationTest() throws IOException, InterruptedException {
+        String filename = sourceFolder + "courierTest.pdf";
+        String resultFile = destinationFolder + "mergedResultWithStreamDeduplication.pdf";
+
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(resultFile));
+        PdfMerger merger = new PdfMerger(pdfDoc).setCloseSourceDocuments(true).setStreamDeduplication(true);
+        for (int i = 0; i < 3; i++) {
+            merger.merge(new PdfDocument(new PdfReader(filename)), 1, 1);
+        }
+
+        PdfIndirectReference contentStream = pdfDoc.getPage(1).getFirstContentStream().getIndirectReference();
+        Assert.assertEquals(contentStream, pdfDoc.getPage(2).getFirstContentStream().getIndirectReference());
+        Assert.assertEquals(contentStream, pdfDoc.getPage(3).getFirstContentStream().getIndirectReference());
+        Assert.assertNotEquals(pdfDoc.getPage(1).getPdfObject().getIndirectReference(),
+                pdfDoc.getPage(3).getPdfObject().getIndirectReference());
+        merger.close();
+
+        PdfDocument resultDoc = new PdfDocument(new PdfReader(resultFile));
+        Assert.assertEquals(3, resultDoc.getNumberOfPages());
+        resultDoc.close();
+    }
+
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = LogMessageConstant.SOURCE_DOCUMENT_HAS_ACROFORM_DICTIONARY)
+    })
+    public void mergeDocumentInStreamingModeTest() throws IOException, InterruptedException, ParserConfigurationException, SAXException {
+        String filename = sourceFolder + "pdf_open_parameters.pdf";
+        String filename1 = sourceFolder + "iphone_user_guide.pdf";
+        String resultFile = destinationFolder + "mergedResultInStreamingMode.pdf";
+
+        PdfDocument pdfDoc = new PdfDocument(new PdfReader(filename));
+        PdfDocument pdfDoc1 = new PdfDocument(new PdfReader(filename1));
+        PdfDocument pdfDoc3 = new PdfDocument(new PdfWriter(resultFile));
+        pdfDoc3.setTagged();
+
+        PdfMerger merger = new PdfMerger(pdfDoc3).setCloseSourceDocuments(true).setStreamingMode(true);
+        List<Integer> pages = new ArrayList<>();
+        pages.add(3);
+        pages.add(2);
+        pages.add(1);
+        merger.merge(pdfDoc, pages);
+        for (int i = 1; i <= 3; i++) {
+            Assert.assertTrue(pdfDoc3.getPage(i).isFlushed());
+        }
+
+        List<Integer> pages1 = new ArrayList<>();
+        pages1.add(5);
+        pages1.add(9);
+        pages1.add(4);
+        pages1.add(3);
+        merger.merge(pdfDoc1, pages1);
+
+        merger.close();
+
+        CompareTool compareTool = new CompareTool();
+        String errorMessage = "";
+        // Pages are flushed earlier than in mergeDocumentTest04, so only the order of the parent tree keys differs
+        String contentErrorMessage = compareTool.compareByContent(resultFile, sourceFolder + "cmp_mergedResultInStreamingMode.pdf", destinationFolder, "diff_");
+        String tagStructErrorMessage = compareTool.compareTagStructures(resultFile, sourceFolder + "cmp_mergedResult04.pdf");
+
+        errorMessage += tagStructErrorMessage == null ? "" : tagStructErrorMessage + "\n";
+        errorMessage += contentErrorMessage == null ? "" : contentErrorMessage;
+        if (!errorMessage.isEmpty()) {
+            Assert.fail(errorMessage);
+        }
+    }
+
+    @Test
+    public void mergeSameDocumentInStreamingModeTest() throws IOException, InterruptedException {
+        String filename = sourceFolder + "courierTest.pdf";
+        String resultFile = destinationFolder + "mergedResultSameDocumentInStreamingMode.pdf";
+
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(resultFile));
+        PdfMerger merger = new PdfMerger(pdfDoc).setCloseSourceDocuments(true)
+                .setStreamingMode(true).setStreamDeduplication(true);
+        for (int i = 0; i < 3; i++) {
+            merger.merge(new PdfDocument(new PdfReader(filename)), 1, 1);
+        }
+        merger.close();
+
+        PdfDocument resultDoc = new PdfDocument(new PdfReader(resultFile));
+        Assert.assertEquals(3, resultDoc.getNumberOfPages());
+        PdfIndirectReference contentStream = resultDoc.getPage(1).getFirstContentStream().getIndirectReference();
+        Assert.assertEquals(contentStream, resultDoc.getPage(3).getFirstContentStream().getIndirectReference());
+        resultDoc.close();
+    }
 }
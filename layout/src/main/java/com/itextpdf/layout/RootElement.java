@@ -55,10 +55,12 @@ import com.itextpdf.layout.element.IElement;
 import com.itextpdf.layout.element.Image;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.font.FontProvider;
+import com.itextpdf.layout.font.GlyphLineCache;
 import com.itextpdf.layout.property.FontKerning;
 import com.itextpdf.layout.property.HorizontalAlignment;
 import com.itextpdf.layout.property.Leading;
 import com.itextpdf.layout.property.Property;
+import com.itextpdf.layout.property.PropertyMap;
 import com.itextpdf.layout.property.TextAlignment;
 import com.itextpdf.layout.property.VerticalAlignment;
 import com.itextpdf.layout.renderer.IRenderer;
@@ -69,9 +71,7 @@ import com.itextpdf.layout.splitting.ISplitCharacters;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * A generic abstract root element for a PDF layout object hierarchy.
@@ -89,11 +89,12 @@ public abstract class RootElement<T extends IPropertyContainer> extends ElementP
      * @deprecated This field just hides the same field from {@link ElementPropertyContainer}
      */
     @Deprecated
-    protected Map<Integer, Object> properties = new HashMap<>();
+    protected PropertyMap properties = new PropertyMap();
 
     protected PdfFont defaultFont;
     protected FontProvider defaultFontProvider;
     protected ISplitCharacters defaultSplitCharacters;
+    protected GlyphLineCache defaultGlyphLineCache;
 
     protected RootRenderer rootRenderer;
 
@@ -191,6 +192,11 @@ public abstract class RootElement<T extends IPropertyContainer> extends ElementP
                         defaultSplitCharacters = new DefaultSplitCharacters();
                     }
                     return (T1) (Object) defaultSplitCharacters;
+                case Property.GLYPH_LINE_CACHE:
+                    if (defaultGlyphLineCache == null) {
+                        defaultGlyphLineCache = new GlyphLineCache();
+                    }
+                    return (T1) (Object) defaultGlyphLineCache;
                 case Property.FONT_SIZE:
                     return (T1) (Object) 12;
                 case Property.TEXT_RENDERING_MODE:
@@ -0,0 +1,189 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.layout.font;
+
+import com.itextpdf.io.font.otf.GlyphLine;
+import com.itextpdf.kernel.font.PdfFont;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of the glyph lines which {@link PdfFont#createGlyphLine(String)} produces for short strings.
+ * <p>
+ * Documents such as invoices or statements repeat the same labels, headers and values thousands of times,
+ * and each occurrence is converted to glyphs again when its text renderer is laid out. This cache keeps
+ * the least recently used conversions, keyed by the font and the text. It is created per
+ * {@link com.itextpdf.layout.RootElement root element} and used through the
+ * {@link com.itextpdf.layout.property.Property#GLYPH_LINE_CACHE} property: setting that property to
+ * a different instance changes the cache size or allows reading the hit and miss counts, and setting it
+ * to {@code null} disables caching.
+ * <p>
+ * The cache is not thread safe, just like the document it belongs to.
+ */
+public class GlyphLineCache {
+
+    /**
+     * The default maximum number of cached glyph lines.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * The maximum length of the strings which are cached. Longer strings rarely repeat.
+     */
+    public static final int MAX_TEXT_LENGTH = 256;
+
+    private final Map<Key, GlyphLine> glyphLines;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates a cache with {@link #DEFAULT_MAX_SIZE the default} maximum size.
+     */
+    public GlyphLineCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache which keeps at most the given number of glyph lines.
+     *
+     * @param maxSize the maximum number of cached glyph lines
+     */
+    public GlyphLineCache(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize");
+        }
+        this.glyphLines = new LinkedHashMap<Key, GlyphLine>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, GlyphLine> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Converts the text to glyphs of the given font, reusing an earlier conversion when possible.
+     * The returned glyph line is a new instance backed by its own glyph list, so it may be modified freely.
+     *
+     * @param font the font to convert the text with
+     * @param text the text to convert
+     * @return the glyph line of the text
+     */
+    public GlyphLine getGlyphLine(PdfFont font, String text) {
+        if (text.length() > MAX_TEXT_LENGTH) {
+            return font.createGlyphLine(text);
+        }
+        Key key = new Key(font, text);
+        GlyphLine glyphLine = glyphLines.get(key);
+        if (glyphLine == null) {
+            misses++;
+            glyphLine = font.createGlyphLine(text);
+            glyphLines.put(key, glyphLine.copy(glyphLine.start, glyphLine.end));
+            return glyphLine;
+        }
+        hits++;
+        return glyphLine.copy(glyphLine.start, glyphLine.end);
+    }
+
+    /**
+     * Gets the number of conversions which were served from this cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of conversions which had to be performed because they were not cached.
+     * Strings longer than {@link #MAX_TEXT_LENGTH} are not counted.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of glyph lines currently cached.
+     *
+     * @return the size of the cache
+     */
+    public int size() {
+        return glyphLines.size();
+    }
+
+    /**
+     * Removes all cached glyph lines. The hit and miss counts are kept.
+     */
+    public void clear() {
+        glyphLines.clear();
+    }
+
+    private static final class Key {
+        private final PdfFont font;
+        private final String text;
+        private final int hash;
+
+        Key(PdfFont font, String text) {
+            this.font = font;
+            this.text = text;
+            this.hash = 31 * System.identityHashCode(font) + text.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return font == other.font && text.equals(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
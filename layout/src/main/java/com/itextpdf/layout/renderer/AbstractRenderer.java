@@ -84,6 +84,7 @@ import com.itextpdf.layout.property.BaseDirection;
 import com.itextpdf.layout.property.BoxSizingPropertyValue;
 import com.itextpdf.layout.property.HorizontalAlignment;
 import com.itextpdf.layout.property.Property;
+import com.itextpdf.layout.property.PropertyMap;
 import com.itextpdf.layout.property.TransparentColor;
 import com.itextpdf.layout.property.Transform;
 import com.itextpdf.layout.property.UnitValue;
@@ -93,7 +94,6 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -121,7 +121,7 @@ public abstract class AbstractRenderer implements IRenderer {
     protected boolean flushed = false;
     protected LayoutArea occupiedArea;
     protected IRenderer parent;
-    protected Map<Integer, Object> properties = new HashMap<>();
+    protected PropertyMap properties = new PropertyMap();
     protected boolean isLastRendererForModelElement = true;
 
     /**
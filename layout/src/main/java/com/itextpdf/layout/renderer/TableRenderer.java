@@ -95,6 +95,9 @@ public class TableRenderer extends AbstractRenderer {
 
     private float[] countedColumnWidth = null;
     private float totalWidthForColumns;
+    // Min-max widths of the cells measured by TableWidths. The cells' content is not changed until they are laid out,
+    // so the same values are reused by #getMinMaxWidth(float) and #layout(LayoutContext) calls till that moment.
+    Map<CellRenderer, MinMaxWidth> cellsMinMaxWidth;
 
     private float topBorderMaxWidth;
 
@@ -240,6 +243,8 @@ public class TableRenderer extends AbstractRenderer {
             float[] margins = getMargins();
             calculateColumnWidths(layoutBox.getWidth() - margins[1] - margins[3]);
         }
+        // the cells will be laid out and may change their content
+        cellsMinMaxWidth = null;
         float tableWidth = getTableWidth();
 
         MarginsCollapseHandler marginsCollapseHandler = null;
@@ -1002,6 +1007,12 @@ public class TableRenderer extends AbstractRenderer {
             }
         }
 
+        // Kid indices of the row tags (or flushed kids, which are rows too) of the current tag. In case of a large table
+        // the rows tagged before become more numerous with every flushed part, so they are collected only once, and only
+        // if a row might have been tagged already: a row is new for sure if its number is not less than the kids number.
+        List<Integer> rowKidIndices = null;
+        int kidsNum = isTagged ? tagPointer.getKidsCount() : 0;
+        int taggedRow = -1;
         for (IRenderer child : childRenderers) {
             if (isTagged) {
                 int adjustByHeaderRowsNum = 0;
@@ -1009,35 +1020,41 @@ public class TableRenderer extends AbstractRenderer {
                     adjustByHeaderRowsNum = modelElement.getHeader().getNumberOfRows();
                 }
                 int cellRow = ((Cell) child.getModelElement()).getRow() + adjustByHeaderRowsNum;
-                int cellRowKidIndex = -1;
-                int foundRowsNum = 0;
-                List<PdfName> kidsRoles = tagPointer.getKidsRoles();
-                for (int i = 0; i < kidsRoles.size(); ++i) {
-                    PdfName kidRole = kidsRoles.get(i);
-                    if (kidRole == null || PdfName.TR.equals(kidRole)) {
-                        ++foundRowsNum;
+                if (cellRow != taggedRow) {
+                    if (taggedRow != -1) {
+                        tagPointer.moveToParent();
                     }
-                    if (foundRowsNum - 1 == cellRow) {
-                        cellRowKidIndex = i;
-                        break;
+                    if (rowKidIndices == null && cellRow < kidsNum) {
+                        rowKidIndices = new ArrayList<>();
+                        List<PdfName> kidsRoles = tagPointer.getKidsRoles();
+                        for (int i = 0; i < kidsRoles.size(); ++i) {
+                            PdfName kidRole = kidsRoles.get(i);
+                            if (kidRole == null || PdfName.TR.equals(kidRole)) {
+                                rowKidIndices.add(i);
+                            }
+                        }
                     }
-                }
 
-                if (cellRowKidIndex > -1) {
-                    tagPointer.moveToKid(cellRowKidIndex);
-                } else {
-                    tagPointer.addTag(PdfName.TR);
+                    if (rowKidIndices != null && cellRow < rowKidIndices.size()) {
+                        tagPointer.moveToKid((int) rowKidIndices.get(cellRow));
+                    } else {
+                        tagPointer.addTag(PdfName.TR);
+                        if (rowKidIndices != null) {
+                            rowKidIndices.add(kidsNum);
+                        }
+                        kidsNum++;
+                    }
+                    taggedRow = cellRow;
                 }
             }
 
             child.draw(drawContext);
-
-            if (isTagged) {
-                tagPointer.moveToParent();
-            }
         }
 
         if (isTagged) {
+            if (taggedRow != -1) {
+                tagPointer.moveToParent();
+            }
             if (shouldHaveFooterOrHeaderTag) {
                 tagPointer.moveToParent();
             }
@@ -1598,6 +1615,7 @@ public class TableRenderer extends AbstractRenderer {
         if (countedColumnWidth == null || totalWidthForColumns != availableWidth) {
             TableWidths tableWidths = new TableWidths(this, availableWidth, false, bordersHandler.rightBorderMaxWidth, bordersHandler.leftBorderMaxWidth);
             countedColumnWidth = tableWidths.layout();
+            totalWidthForColumns = availableWidth;
         }
     }
 
@@ -56,6 +56,7 @@ import org.slf4j.LoggerFactory;
 import com.itextpdf.io.util.MessageFormatUtil;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 
 final class TableWidths {
@@ -589,7 +590,7 @@ final class TableWidths {
 
         for (CellInfo cell : cells) {
             cell.setParent(tableRenderer);
-            MinMaxWidth minMax = cell.getCell().getMinMaxWidth(MinMaxWidthUtils.getMax());
+            MinMaxWidth minMax = getCellMinMaxWidth(cell.getCell(), MinMaxWidthUtils.getMax());
             float[] indents = getCellBorderIndents(cell);
             minMax.setAdditionalWidth(minMax.getAdditionalWidth() + indents[1] / 2 + indents[3] / 2);
 
@@ -621,6 +622,20 @@ final class TableWidths {
         }
     }
 
+    private MinMaxWidth getCellMinMaxWidth(CellRenderer cell, float availableWidth) {
+        if (tableRenderer.cellsMinMaxWidth == null) {
+            tableRenderer.cellsMinMaxWidth = new HashMap<>();
+        }
+        MinMaxWidth minMax = tableRenderer.cellsMinMaxWidth.get(cell);
+        if (minMax == null || minMax.getAvailableWidth() != availableWidth) {
+            minMax = cell.getMinMaxWidth(availableWidth);
+            tableRenderer.cellsMinMaxWidth.put(cell, minMax);
+        }
+        // the result is adjusted with cell border indents, keep the cached one untouched
+        return new MinMaxWidth(minMax.getAdditionalWidth(), minMax.getAvailableWidth(),
+                minMax.getChildrenMinWidth(), minMax.getChildrenMaxWidth());
+    }
+
     private float[] getCellBorderIndents(CellInfo cell) {
         TableRenderer renderer;
         if (cell.region == CellInfo.HEADER) {
@@ -777,6 +792,8 @@ final class TableWidths {
             return widthValue;
         } else {
             if (!AbstractRenderer.isBorderBoxSizing(cell)) {
+                // the property value is shared with the cell, the layout may be invoked several times
+                widthValue = new UnitValue(widthValue);
                 Border[] borders = cell.getBorders();
                 if (borders[1] != null) {
                     widthValue.setValue(widthValue.getValue() + borders[1].getWidth() / 2);
@@ -69,6 +69,7 @@ import com.itextpdf.layout.font.FontFamilySplitter;
 import com.itextpdf.layout.font.FontProvider;
 import com.itextpdf.layout.font.FontSelectorStrategy;
 import com.itextpdf.layout.font.FontSet;
+import com.itextpdf.layout.font.GlyphLineCache;
 import com.itextpdf.layout.hyphenation.Hyphenation;
 import com.itextpdf.layout.hyphenation.HyphenationConfig;
 import com.itextpdf.layout.layout.LayoutArea;
@@ -1001,7 +1002,8 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
     }
 
     private GlyphLine convertToGlyphLine(String text) {
-        return font.createGlyphLine(text);
+        GlyphLineCache glyphLineCache = this.<GlyphLineCache>getProperty(Property.GLYPH_LINE_CACHE);
+        return glyphLineCache != null ? glyphLineCache.getGlyphLine(font, text) : font.createGlyphLine(text);
     }
 
     private boolean hasOtfFont() {
@@ -1678,6 +1678,30 @@ public class TableTest extends ExtendedITextTest {
         Assert.assertNull(new CompareTool().compareByContent(outFileName, cmpFileName, destinationFolder, testName + "_diff"));
     }
 
+    @Test
+    public void tableWithKeepTogetherOnCellsWithWidth() throws IOException, InterruptedException {
+        String testName = "tableWithKeepTogetherOnCellsWithWidth.pdf";
+        String outFileName = destinationFolder + testName;
+        String cmpFileName = sourceFolder + "cmp_" + testName;
+
+        Document document = new Document(new PdfDocument(new PdfWriter(outFileName)));
+
+        document.add(new Div().setHeight(650).setBackgroundColor(Color.LIGHT_GRAY));
+        Table table = new Table(new float[]{50, 50, 50}).setKeepTogether(true);
+        for (int i = 1; i <= 3 * 5; i++) {
+            Cell cell = new Cell().setKeepTogether(true).setMinHeight(45).add("" + i);
+            if (i % 3 == 1) {
+                cell.setWidth(100).setPadding(10).setBorder(new SolidBorder(Color.RED, 6));
+            }
+            table.addCell(cell);
+        }
+        // the table does not fit the first page, so it is laid out again on the second one
+        document.add(table);
+        document.close();
+
+        Assert.assertNull(new CompareTool().compareByContent(outFileName, cmpFileName, destinationFolder, testName + "_diff"));
+    }
+
     @Test
     public void emptyTableTest01() throws IOException, InterruptedException {
         String testName = "emptyTableTest01.pdf";
@@ -2093,6 +2117,30 @@ public class TableTest extends ExtendedITextTest {
         Assert.assertNull(new CompareTool().compareByContent(outFileName, cmpFileName, destinationFolder, testName + "_diff"));
     }
 
+    @Test
+    public void fixedLayoutTest03() throws IOException, InterruptedException {
+        String testName = "fixedLayoutTest03.pdf";
+        String outFileName = destinationFolder + testName;
+        String cmpFileName = sourceFolder + "cmp_" + testName;
+
+        //Initialize PDF document
+        PdfDocument pdf = new PdfDocument(new PdfWriter(outFileName));
+        // Initialize document
+        Document doc = new Document(pdf);
+
+        doc.add(new Paragraph("Table with point widths of all the columns and without table width. Auto layout is used, because there is no table width."));
+        Table table = new Table(new float[]{50, 100, 150}).setFixedLayout();
+        table.addCell("Supercalifragilisticexpialidocious");
+        table.addCell(new Cell().add(shortTextContent).setPadding(10).setBorder(new SolidBorder(Color.BLUE, 4)));
+        table.addCell(middleTextContent);
+        table.addCell(new Cell(1, 2).add("Spanned 1x-2x"));
+        table.addCell("3x");
+        doc.add(table);
+
+        doc.close();
+        Assert.assertNull(new CompareTool().compareByContent(outFileName, cmpFileName, destinationFolder, testName + "_diff"));
+    }
+
     @Test
     @LogMessages(messages = {
             @LogMessage(messageTemplate = LogMessageConstant.CLIP_ELEMENT, count = 2)
@@ -0,0 +1,139 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.layout.font;
+
+import com.itextpdf.io.font.FontConstants;
+import com.itextpdf.io.font.otf.GlyphLine;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.property.Property;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class GlyphLineCacheTest extends ExtendedITextTest {
+
+    @Test
+    public void hitsAndMissesTest() throws IOException {
+        PdfFont helvetica = PdfFontFactory.createFont(FontConstants.HELVETICA);
+        PdfFont courier = PdfFontFactory.createFont(FontConstants.COURIER);
+        GlyphLineCache cache = new GlyphLineCache();
+
+        GlyphLine first = cache.getGlyphLine(helvetica, "Total");
+        GlyphLine second = cache.getGlyphLine(helvetica, "Total");
+        cache.getGlyphLine(courier, "Total");
+
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertEquals(2, cache.getMisses());
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals("Total", second.toUnicodeString(second.start, second.end));
+
+        first.set(0, helvetica.getGlyph('X'));
+        first.end--;
+        GlyphLine third = cache.getGlyphLine(helvetica, "Total");
+        Assert.assertEquals("Total", third.toUnicodeString(third.start, third.end));
+    }
+
+    @Test
+    public void leastRecentlyUsedAreEvictedTest() throws IOException {
+        PdfFont font = PdfFontFactory.createFont(FontConstants.HELVETICA);
+        GlyphLineCache cache = new GlyphLineCache(2);
+        cache.getGlyphLine(font, "a");
+        cache.getGlyphLine(font, "b");
+        cache.getGlyphLine(font, "a");
+        cache.getGlyphLine(font, "c");
+        Assert.assertEquals(2, cache.size());
+
+        cache.getGlyphLine(font, "a");
+        Assert.assertEquals(2, cache.getHits());
+        cache.getGlyphLine(font, "b");
+        Assert.assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    public void longTextIsNotCachedTest() throws IOException {
+        PdfFont font = PdfFontFactory.createFont(FontConstants.HELVETICA);
+        GlyphLineCache cache = new GlyphLineCache();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i <= GlyphLineCache.MAX_TEXT_LENGTH; i++) {
+            text.append('x');
+        }
+        GlyphLine glyphLine = cache.getGlyphLine(font, text.toString());
+        Assert.assertEquals(GlyphLineCache.MAX_TEXT_LENGTH + 1, glyphLine.size());
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void repeatedCellTextIsConvertedOnceTest() {
+        String[] labels = {"Widget, standard", "Each", "Warehouse A", "In stock", "12.50"};
+        int rows = 20;
+        GlyphLineCache cache = new GlyphLineCache();
+        Document document = new Document(new PdfDocument(new PdfWriter(new ByteArrayOutputStream())));
+        document.setProperty(Property.GLYPH_LINE_CACHE, cache);
+        Table table = new Table(labels.length);
+        for (int row = 0; row < rows; row++) {
+            for (String label : labels) {
+                table.addCell(new Paragraph(label));
+            }
+        }
+        document.add(table);
+        document.close();
+
+        Assert.assertEquals(labels.length, cache.getMisses());
+        Assert.assertEquals(rows * labels.length - labels.length, cache.getHits());
+    }
+}
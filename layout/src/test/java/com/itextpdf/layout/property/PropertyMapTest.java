@@ -0,0 +1,193 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.layout.property;
+
+import com.itextpdf.layout.element.Div;
+import com.itextpdf.layout.Style;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.renderer.DivRenderer;
+import com.itextpdf.layout.renderer.IRenderer;
+import com.itextpdf.layout.renderer.ParagraphRenderer;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class PropertyMapTest extends ExtendedITextTest {
+
+    @Test
+    public void putGetRemoveTest() {
+        PropertyMap properties = new PropertyMap();
+        for (int property = 40; property > 0; property -= 3) {
+            properties.put(property, property * 10);
+        }
+        properties.put(Property.WIDTH, null);
+
+        Assert.assertEquals(15, properties.size());
+        Assert.assertEquals(370, properties.get(37));
+        Assert.assertNull(properties.get(38));
+        Assert.assertNull(properties.get(Property.WIDTH));
+        Assert.assertTrue(properties.containsKey(Property.WIDTH));
+        Assert.assertFalse(properties.containsKey(38));
+        Assert.assertEquals(370, properties.put(37, 0));
+        Assert.assertEquals(0, properties.remove(37));
+        Assert.assertNull(properties.remove(37));
+        Assert.assertFalse(properties.containsKey((Object) 37));
+        Assert.assertEquals(14, properties.size());
+    }
+
+    @Test
+    public void mapContractTest() {
+        Map<Integer, Object> expected = new HashMap<>();
+        PropertyMap properties = new PropertyMap();
+        for (int property = 1; property < 100; property += 7) {
+            expected.put(property, "value" + property);
+            properties.put(property, "value" + property);
+        }
+        Assert.assertEquals(expected, properties);
+        Assert.assertEquals(properties, expected);
+        Assert.assertEquals(expected.hashCode(), properties.hashCode());
+        Assert.assertEquals(expected, new PropertyMap(properties));
+        Assert.assertEquals(expected, new HashMap<>(properties));
+
+        int previous = 0;
+        for (Iterator<Map.Entry<Integer, Object>> iterator = properties.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Integer, Object> entry = iterator.next();
+            Assert.assertTrue(entry.getKey() > previous);
+            previous = entry.getKey();
+            if (entry.getKey() % 2 == 0) {
+                iterator.remove();
+                expected.remove(entry.getKey());
+            } else {
+                entry.setValue("new");
+                expected.put(entry.getKey(), "new");
+            }
+        }
+        Assert.assertEquals(expected, properties);
+    }
+
+    @Test
+    public void inheritedPropertyFollowsChangesTest() {
+        Div div = new Div().setFontSize(10);
+        Paragraph paragraph = new Paragraph();
+        IRenderer divRenderer = new DivRenderer(div);
+        IRenderer paragraphRenderer = new ParagraphRenderer(paragraph).setParent(divRenderer);
+        Assert.assertEquals(10f, (float) paragraphRenderer.<Float>getProperty(Property.FONT_SIZE), 0);
+
+        div.setFontSize(12);
+        Assert.assertEquals(12f, (float) paragraphRenderer.<Float>getProperty(Property.FONT_SIZE), 0);
+
+        divRenderer.setProperty(Property.FONT_SIZE, 14f);
+        Assert.assertEquals(14f, (float) paragraphRenderer.<Float>getProperty(Property.FONT_SIZE), 0);
+
+        IRenderer otherDivRenderer = new DivRenderer(new Div().setFontSize(16));
+        paragraphRenderer.setParent(otherDivRenderer);
+        Assert.assertEquals(16f, (float) paragraphRenderer.<Float>getProperty(Property.FONT_SIZE), 0);
+
+        divRenderer.setParent(null);
+        otherDivRenderer.setParent(divRenderer);
+        otherDivRenderer.getModelElement().deleteOwnProperty(Property.FONT_SIZE);
+        Assert.assertEquals(14f, (float) paragraphRenderer.<Float>getProperty(Property.FONT_SIZE), 0);
+    }
+
+    @Test
+    public void inheritedPropertyFollowsStyleChangesTest() {
+        Div div = new Div();
+        IRenderer divRenderer = new DivRenderer(div);
+        IRenderer paragraphRenderer = new ParagraphRenderer(new Paragraph()).setParent(divRenderer);
+        Assert.assertNull(paragraphRenderer.<Float>getProperty(Property.FONT_SIZE));
+
+        div.addStyle(new Style().setFontSize(20));
+        Assert.assertEquals(20f, (float) paragraphRenderer.<Float>getProperty(Property.FONT_SIZE), 0);
+
+        div.setFontSize(22);
+        Assert.assertEquals(22f, (float) paragraphRenderer.<Float>getProperty(Property.FONT_SIZE), 0);
+    }
+
+    @Test
+    public void inheritedPropertyFollowsParentFieldChangesTest() {
+        IRenderer divRenderer = new DivRenderer(new Div().setFontSize(10));
+        IRenderer otherDivRenderer = new DivRenderer(new Div().setFontSize(12));
+        TestParagraphRenderer paragraphRenderer = new TestParagraphRenderer(new Paragraph());
+        paragraphRenderer.setParent(divRenderer);
+        Assert.assertEquals(10f, (float) paragraphRenderer.<Float>getProperty(Property.FONT_SIZE), 0);
+
+        paragraphRenderer.replaceParent(otherDivRenderer);
+        Assert.assertEquals(12f, (float) paragraphRenderer.<Float>getProperty(Property.FONT_SIZE), 0);
+    }
+
+    @Test
+    public void inheritedPropertyFollowsReplacedPropertiesTest() {
+        TestParagraphRenderer parentRenderer = new TestParagraphRenderer(new Paragraph());
+        parentRenderer.setProperty(Property.FONT_SIZE, 10f);
+        IRenderer paragraphRenderer = new ParagraphRenderer(new Paragraph()).setParent(parentRenderer);
+        Assert.assertEquals(10f, (float) paragraphRenderer.<Float>getProperty(Property.FONT_SIZE), 0);
+
+        Map<Integer, Object> properties = new HashMap<>();
+        properties.put(Property.FONT_SIZE, 14f);
+        parentRenderer.replaceProperties(properties);
+        Assert.assertEquals(14f, (float) paragraphRenderer.<Float>getProperty(Property.FONT_SIZE), 0);
+    }
+
+    private static class TestParagraphRenderer extends ParagraphRenderer {
+        TestParagraphRenderer(Paragraph modelElement) {
+            super(modelElement);
+        }
+
+        void replaceParent(IRenderer parent) {
+            this.parent = parent;
+        }
+
+        void replaceProperties(Map<Integer, Object> properties) {
+            this.properties = new PropertyMap(properties);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2017 iText Group NV
+    Authors: Bruno Lowagie, Paulo Soares, et al.
+
+    This program is free software; you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License version 3
+    as published by the Free Software Foundation with the addition of the
+    following permission added to Section 15 as permitted in Section 7(a):
+    FOR ANY PART OF THE COVERED WORK IN WHICH THE COPYRIGHT IS OWNED BY
+    ITEXT GROUP. ITEXT GROUP DISCLAIMS THE WARRANTY OF NON INFRINGEMENT
+    OF THIRD PARTY RIGHTS
+
+    This program is distributed in the hope that it will be useful, but
+    WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+    or FITNESS FOR A PARTICULAR PURPOSE.
+    See the GNU Affero General Public License for more details.
+    You should have received a copy of the GNU Affero General Public License
+    along with this program; if not, see http://www.gnu.org/licenses or write to
+    the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor,
+    Boston, MA, 02110-1301 USA, or download the license from the following URL:
+    http://itextpdf.com/terms-of-use/
+
+    The interactive user interfaces in modified source and object code versions
+    of this program must display Appropriate Legal Notices, as required under
+    Section 5 of the GNU Affero General Public License.
+
+    In accordance with Section 7(b) of the GNU Affero General Public License,
+    a covered work must retain the producer line in every PDF that is created
+    or manipulated using iText.
+
+    You can be released from the requirements of the license by purchasing
+    a commercial license. Buying such a license is mandatory as soon as you
+    develop commercial activities involving the iText software without
+    disclosing the source code of your own applications.
+    These activities include: offering paid services to customers as an ASP,
+    serving PDFs on the fly in a web application, shipping iText with a closed
+    source product.
+
+    For more information, please contact iText Software Corp. at this
+    address: sales@itextpdf.com
+ */
+package com.itextpdf.layout.renderer;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Div;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.minmaxwidth.MinMaxWidth;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayOutputStream;
+
+@Category(UnitTest.class)
+public class TableWidthsTest extends ExtendedITextTest {
+
+    private int measuredCells;
+
+    @Test
+    public void nestedTablesCellsMeasuredOnceTest() {
+        int nestingDepth = 5;
+        Document document = new Document(new PdfDocument(new PdfWriter(new ByteArrayOutputStream())));
+        Table table = createMeasuredTable(2);
+        table.addCell(new MeasuredCell().add("inner"));
+        for (int i = 1; i < nestingDepth; i++) {
+            Table parent = createMeasuredTable(2);
+            parent.addCell(new MeasuredCell().add(table));
+            table = parent;
+        }
+        document.add(table);
+        document.close();
+        // each cell is measured once, no matter how deep its table is nested
+        Assert.assertEquals(2 * nestingDepth, measuredCells);
+    }
+
+    @Test
+    public void keepTogetherTableCellsMeasuredOnceTest() {
+        Document document = new Document(new PdfDocument(new PdfWriter(new ByteArrayOutputStream())));
+        document.add(new Div().setHeight(650));
+        Table table = new Table(3).setKeepTogether(true);
+        for (int i = 0; i < 3 * 4; i++) {
+            table.addCell(new MeasuredCell().setMinHeight(45).add(new Paragraph("cell " + i)));
+        }
+        // the table does not fit the first page and is laid out again on the second one with the same column widths
+        document.add(table);
+        document.close();
+        Assert.assertEquals(3 * 4, measuredCells);
+    }
+
+    private Table createMeasuredTable(int columns) {
+        Table table = new Table(columns);
+        for (int i = 1; i < columns; i++) {
+            table.addCell(new MeasuredCell().add(new Paragraph("cell " + i)));
+        }
+        return table;
+    }
+
+    private class MeasuredCell extends Cell {
+        @Override
+        protected IRenderer makeNewRenderer() {
+            return new MeasuredCellRenderer(this);
+        }
+    }
+
+    private class MeasuredCellRenderer extends CellRenderer {
+        MeasuredCellRenderer(Cell modelElement) {
+            super(modelElement);
+        }
+
+        @Override
+        protected MinMaxWidth getMinMaxWidth(float availableWidth) {
+            measuredCells++;
+            return super.getMinMaxWidth(availableWidth);
+        }
+
+        @Override
+        public IRenderer getNextRenderer() {
+            return new MeasuredCellRenderer((Cell) getModelElement());
+        }
+    }
+}